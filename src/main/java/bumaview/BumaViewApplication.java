@@ -2,8 +2,10 @@ package bumaview;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BumaViewApplication {
     public static void main(String[] args) {
         SpringApplication.run(BumaViewApplication.class, args);
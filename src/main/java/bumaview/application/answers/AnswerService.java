@@ -1,6 +1,11 @@
 package bumaview.application.answers;
 
+import bumaview.common.pagination.CursorCodec;
+import bumaview.common.pagination.CursorPage;
 import bumaview.domain.answers.Answer;
+import bumaview.domain.answers.AnswerSort;
+import bumaview.domain.answers.event.AnswerCreatedEvent;
+import bumaview.domain.answers.event.AnswerDeletedEvent;
 import bumaview.domain.auth.Role;
 import bumaview.domain.auth.User;
 import bumaview.domain.questions.Question;
@@ -8,7 +13,13 @@ import bumaview.infrastructure.answers.AnswerRepository;
 import bumaview.infrastructure.auth.UserRepository;
 import bumaview.infrastructure.questions.QuestionRepository;
 import bumaview.infrastructure.scores.ScoreRepository;
+import bumaview.presentation.answers.dto.AnswerCreateRequest;
+import bumaview.presentation.answers.dto.AnswerResponse;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +34,7 @@ public class AnswerService {
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final ScoreRepository scoreRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 답변을 저장합니다.
@@ -36,24 +48,111 @@ public class AnswerService {
      */
     @Transactional
     public Answer saveAnswer(Long questionId, String userId, String content, Integer time) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다. ID: " + questionId));
+        Answer answer = newAnswer(questionId, userId, content, time);
+        insertAll(List.of(answer));
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. ID: " + userId));
+        // 사용자 통계 갱신
+        userRepository.addAnswerCount(userId, 1);
+        eventPublisher.publishEvent(new AnswerCreatedEvent(answer.getId(), questionId, userId));
+        return answer;
+    }
+    
+    /**
+     * 모의 면접 한 회의 답변을 한 트랜잭션에서 일괄 저장합니다. (하나라도 실패하면 전체 취소)
+     *
+     * @param userId 사용자 ID
+     * @param requests 답변 저장 요청 목록 (요청 순서대로 저장)
+     * @return 저장된 답변 목록
+     * @throws IllegalArgumentException 질문 또는 사용자가 존재하지 않는 경우
+     */
+    @Transactional
+    public List<Answer> saveAnswers(String userId, List<AnswerCreateRequest> requests) {
+        List<Answer> answers = requests.stream()
+                .map(request -> newAnswer(request.getQuestionId(), userId, request.getAnswer(), request.getTime()))
+                .toList();
+        insertAll(answers);
         
-        Answer answer = new Answer(question, user, content, time);
-        return answerRepository.save(answer);
+        userRepository.addAnswerCount(userId, answers.size());
+        answers.forEach(answer -> eventPublisher.publishEvent(
+                new AnswerCreatedEvent(answer.getId(), answer.getQuestion().getId(), userId)));
+        return answers;
     }
     
     /**
-     * 사용자의 답변 목록을 조회합니다.
+     * 질문과 사용자를 조회하지 않고 참조(프록시)로 답변을 만듭니다.
+     * 사용자는 검증된 토큰에서 온 ID이고, 없는 질문 ID는 INSERT 시 외래 키 제약으로 걸러집니다.
+     */
+    private Answer newAnswer(Long questionId, String userId, String content, Integer time) {
+        Question question = questionRepository.getReferenceById(questionId);
+        User user = userRepository.getReferenceById(userId);
+        return new Answer(question, user, content, time);
+    }
+    
+    /**
+     * 답변을 JDBC 배치로 INSERT하고, 외래 키 위반은 존재하지 않는 질문/사용자 예외로 바꿉니다.
+     */
+    private void insertAll(List<Answer> answers) {
+        try {
+            answerRepository.saveAllAndFlush(answers);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.FOREIGN_KEY) {
+                throw new IllegalArgumentException("존재하지 않는 질문 또는 사용자입니다.");
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 사용자의 답변 목록을 최신순으로 한 페이지 조회합니다.
      * 
      * @param userId 사용자 ID
-     * @return 사용자의 답변 목록
+     * @param after 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 사용자의 답변 페이지
      */
-    public List<Answer> getMyAnswers(String userId) {
-        return answerRepository.findByUserIdWithQuestion(userId);
+    public CursorPage<AnswerResponse> getMyAnswers(String userId, String after, int limit) {
+        CursorPage.validateLimit(limit);
+        Long afterId = CursorCodec.decodeId(after);
+        
+        List<AnswerResponse> answers = answerRepository.findResponsesByUserId(userId, afterId, Limit.of(limit + 1));
+        return CursorPage.of(answers, limit, answer -> CursorCodec.encodeId(answer.getId()));
+    }
+    
+    /**
+     * 질문의 답변 목록을 한 페이지 조회합니다 (작성자 포함).
+     *
+     * @param questionId 질문 ID
+     * @param sort 정렬 기준
+     * @param after 이전 페이지의 다음 커서 (첫 페이지는 null, 같은 정렬 기준의 커서여야 함)
+     * @param limit 페이지 크기
+     * @return 질문의 답변 페이지
+     * @throws IllegalArgumentException 존재하지 않는 질문 ID이거나 커서가 유효하지 않은 경우
+     */
+    public CursorPage<Answer> getQuestionAnswers(Long questionId, AnswerSort sort, String after, int limit) {
+        CursorPage.validateLimit(limit);
+        
+        CursorPage<Answer> page;
+        if (sort == AnswerSort.SCORE) {
+            CursorCodec.ScoreCursor cursor = CursorCodec.decodeScore(after);
+            List<Answer> answers = answerRepository.findByQuestionIdOrderByScore(questionId,
+                    cursor == null ? Double.MAX_VALUE : cursor.getScore(),
+                    cursor == null ? Long.MAX_VALUE : cursor.getId(),
+                    Limit.of(limit + 1));
+            page = CursorPage.of(answers, limit, answer -> CursorCodec.encodeScore(answer.getAverageScore(), answer.getId()));
+        } else {
+            Long afterId = CursorCodec.decodeId(after);
+            List<Answer> answers = answerRepository.findByQuestionIdOrderById(questionId,
+                    afterId == null ? Long.MAX_VALUE : afterId,
+                    Limit.of(limit + 1));
+            page = CursorPage.of(answers, limit, answer -> CursorCodec.encodeId(answer.getId()));
+        }
+        
+        // 답변이 있으면 질문도 있으므로 빈 페이지일 때만 질문 존재 여부를 확인
+        if (page.getItems().isEmpty() && !questionRepository.existsById(questionId)) {
+            throw new IllegalArgumentException("존재하지 않는 질문입니다. ID: " + questionId);
+        }
+        return page;
     }
     
     /**
@@ -86,10 +185,17 @@ public class AnswerService {
             throw new IllegalArgumentException("답변을 삭제할 권한이 없습니다.");
         }
         
+        // 사용자 통계 갱신 (평가 삭제 전에 집계, 받은 점수는 답변의 집계 컬럼 사용)
+        String authorId = answer.getUser().getId();
+        userRepository.decrementEvaluatedCountByAnswerId(id);
+        userRepository.addReceivedScore(authorId, -answer.getScoreSum(), -answer.getScoreCount());
+        userRepository.addAnswerCount(authorId, -1);
+        
         // 연관된 평가 데이터 먼저 삭제
-        scoreRepository.deleteByAnswerId(id);
+        scoreRepository.deleteAllByAnswerId(id);
         
         // 답변 삭제
         answerRepository.deleteById(id);
+        eventPublisher.publishEvent(new AnswerDeletedEvent(id, answer.getQuestion().getId(), authorId));
     }
 }
\ No newline at end of file
@@ -1,18 +1,29 @@
 package bumaview.application.auth;
 
 import bumaview.domain.auth.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +38,38 @@ public class JwtTokenService {
     @Value("${jwt.refresh-token-expiration:604800000}") // 7일
     private long refreshTokenExpiration;
     
+    @Value("${jwt.verified-cache.enabled:false}")
+    private boolean verifiedCacheEnabled;
+    
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+    
+    // 시작 시 한 번 생성되며 이후 읽기 전용이므로 스레드 간 공유해도 안전함
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    
+    // 검증된 토큰의 Claims 캐시 (토큰 다이제스트 -> Claims), 토큰 만료 시각에 제거됨
+    private Cache<String, Claims> verifiedTokenCache;
+    
+    /**
+     * 서명 키와 파서를 생성하고, 설정된 경우 검증 토큰 캐시를 준비합니다.
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        
+        if (verifiedCacheEnabled) {
+            verifiedTokenCache = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaximumSize)
+                    .expireAfter(new ExpireAtTokenExpiration())
+                    .recordStats()
+                    .build();
+        }
+    }
+    
     /**
      * 사용자 정보를 기반으로 Access Token을 생성합니다.
      */
@@ -41,29 +84,37 @@ public class JwtTokenService {
     
     /**
      * 사용자 정보를 기반으로 Refresh Token을 생성합니다.
+     * 회전 및 폐기를 위해 토큰마다 고유한 jti를 부여합니다.
      */
     public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId());
         claims.put("tokenType", "refresh");
+        claims.put(Claims.ID, UUID.randomUUID().toString());
         
         return createToken(claims, user.getId(), refreshTokenExpiration);
     }
     
     /**
      * JWT 토큰을 검증하고 Claims를 반환합니다.
+     * 캐시가 활성화된 경우 이미 검증된 토큰은 서명 검증과 파싱을 생략합니다.
      */
     public Claims validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes());
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new JwtException("유효하지 않은 토큰입니다: " + e.getMessage());
+        if (verifiedTokenCache == null) {
+            return parseToken(token);
         }
+        
+        String cacheKey = digest(token);
+        Claims cached = verifiedTokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Claims claims = parseToken(token);
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(cacheKey, claims);
+        }
+        return claims;
     }
     
     /**
@@ -86,6 +137,47 @@ public class JwtTokenService {
         }
     }
     
+    /**
+     * 검증 토큰 캐시 적중 횟수를 반환합니다. (캐시 비활성화 시 0)
+     */
+    public long getVerifiedCacheHitCount() {
+        return verifiedTokenCache != null ? verifiedTokenCache.stats().hitCount() : 0;
+    }
+    
+    /**
+     * 검증 토큰 캐시 미스 횟수를 반환합니다. (캐시 비활성화 시 0)
+     */
+    public long getVerifiedCacheMissCount() {
+        return verifiedTokenCache != null ? verifiedTokenCache.stats().missCount() : 0;
+    }
+    
+    /**
+     * 검증 토큰 캐시의 현재 항목 수를 반환합니다. (캐시 비활성화 시 0)
+     */
+    public long getVerifiedCacheSize() {
+        return verifiedTokenCache != null ? verifiedTokenCache.estimatedSize() : 0;
+    }
+    
+    private Claims parseToken(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new JwtException("유효하지 않은 토큰입니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 다이제스트를 계산합니다.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+    
     /**
      * JWT 토큰을 생성합니다.
      */
@@ -93,14 +185,34 @@ public class JwtTokenService {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
         
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
-}
\ No newline at end of file
+    
+    /**
+     * 캐시 항목을 토큰의 exp 시각에 만료시키는 정책
+     */
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package bumaview.application.auth;
+
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계정 및 클라이언트 IP별 로그인 실패를 추적해 BCrypt 검증 전에 요청을 차단합니다.
+ *
+ * 실패 횟수는 시간이 지나면 지수적으로 감소하는 점수로 관리하며(슬라이딩 윈도우 근사),
+ * 점수가 임계치를 넘을 때마다 차단 시간이 2배씩 늘어납니다.
+ * 상태는 불변 객체로 두고 ConcurrentHashMap.compute로 교체하므로 키마다 독립적으로(스트라이프 단위) 갱신됩니다.
+ */
+@Component
+public class LoginThrottle {
+    
+    @Value("${auth.login-throttle.account-threshold:5}")
+    private int accountThreshold;
+    
+    @Value("${auth.login-throttle.ip-threshold:20}")
+    private int ipThreshold;
+    
+    @Value("${auth.login-throttle.decay-seconds:300}")
+    private long decaySeconds;
+    
+    @Value("${auth.login-throttle.base-lockout-seconds:30}")
+    private long baseLockoutSeconds;
+    
+    @Value("${auth.login-throttle.max-lockout-seconds:3600}")
+    private long maxLockoutSeconds;
+    
+    private final ConcurrentHashMap<String, FailureWindow> accountFailures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, FailureWindow> ipFailures = new ConcurrentHashMap<>();
+    
+    /**
+     * 계정 또는 IP가 차단 상태인지 확인합니다.
+     *
+     * @throws TooManyLoginAttemptsException 차단 중인 경우
+     */
+    public void checkAllowed(String accountId, String clientIp) {
+        long now = System.currentTimeMillis();
+        long lockedUntil = Math.max(lockedUntil(accountFailures, accountId), lockedUntil(ipFailures, clientIp));
+        if (lockedUntil > now) {
+            throw new TooManyLoginAttemptsException((lockedUntil - now + 999) / 1000);
+        }
+    }
+    
+    /**
+     * 로그인 실패를 기록합니다.
+     */
+    public void recordFailure(String accountId, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (accountId != null) {
+            accountFailures.compute(accountId, (key, window) -> fail(window, now, accountThreshold));
+        }
+        if (clientIp != null) {
+            ipFailures.compute(clientIp, (key, window) -> fail(window, now, ipThreshold));
+        }
+    }
+    
+    /**
+     * 로그인 성공 시 계정의 실패 기록을 초기화합니다.
+     */
+    public void recordSuccess(String accountId) {
+        accountFailures.remove(accountId);
+    }
+    
+    /**
+     * 점수가 거의 사라지고 차단도 끝난 항목을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.login-throttle.prune-interval:60000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        accountFailures.values().removeIf(window -> window.isIdle(now, decayMillis()));
+        ipFailures.values().removeIf(window -> window.isIdle(now, decayMillis()));
+    }
+    
+    private static long lockedUntil(ConcurrentHashMap<String, FailureWindow> failures, String key) {
+        if (key == null) {
+            return 0;
+        }
+        FailureWindow window = failures.get(key);
+        return window != null ? window.lockedUntil : 0;
+    }
+    
+    private FailureWindow fail(FailureWindow window, long now, int threshold) {
+        if (window == null) {
+            return new FailureWindow(1, now, 0, 0);
+        }
+        
+        double decayed = window.decayedScore(now, decayMillis());
+        // 오래 조용했던 경우 차단 단계를 초기화
+        int lockouts = decayed < 0.5 ? 0 : window.lockouts;
+        double score = decayed + 1;
+        
+        if (score < threshold) {
+            return new FailureWindow(score, now, window.lockedUntil, lockouts);
+        }
+        
+        // 임계치 도달: 차단 시간은 단계마다 2배 (최대값 제한)
+        long lockoutSeconds = Math.min(maxLockoutSeconds, baseLockoutSeconds << Math.min(lockouts, 20));
+        return new FailureWindow(score, now, now + lockoutSeconds * 1000, lockouts + 1);
+    }
+    
+    private long decayMillis() {
+        return decaySeconds * 1000;
+    }
+    
+    /**
+     * 지수 감쇠 실패 점수와 차단 상태 (불변)
+     */
+    private static class FailureWindow {
+        
+        private final double score;
+        private final long updatedAt;
+        private final long lockedUntil;
+        private final int lockouts;
+        
+        private FailureWindow(double score, long updatedAt, long lockedUntil, int lockouts) {
+            this.score = score;
+            this.updatedAt = updatedAt;
+            this.lockedUntil = lockedUntil;
+            this.lockouts = lockouts;
+        }
+        
+        private double decayedScore(long now, long decayMillis) {
+            return score * Math.exp(-(double) (now - updatedAt) / decayMillis);
+        }
+        
+        private boolean isIdle(long now, long decayMillis) {
+            return lockedUntil <= now && decayedScore(now, decayMillis) < 0.05;
+        }
+    }
+}
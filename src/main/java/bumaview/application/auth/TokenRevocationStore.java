@@ -0,0 +1,115 @@
+package bumaview.application.auth;
+
+import bumaview.common.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰을 관리하는 인메모리 저장소
+ *
+ * 회전된 리프레시 토큰은 jti 단위로, 로그아웃은 사용자 단위 기준 시각으로 폐기합니다.
+ * 조회는 Bloom filter로 대부분 즉시 음성 판정하고, 양성일 때만 만료 시각이 붙은 집합을 확인하므로
+ * DB 조회 없이 O(1)로 처리됩니다. 만료된 항목은 주기적으로 제거하며 이때 Bloom filter를 다시 만듭니다.
+ */
+@Component
+public class TokenRevocationStore {
+    
+    @Value("${jwt.refresh-token-expiration:604800000}") // 7일
+    private long refreshTokenExpiration;
+    
+    @Value("${jwt.revocation.expected-tokens:100000}")
+    private long expectedRevokedTokens;
+    
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    
+    // jti -> 토큰 만료 시각(ms)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    
+    // 사용자 ID -> 이 시각(초) 이전에 발급된 토큰은 모두 폐기
+    private final Map<String, Long> userRevokedBefore = new ConcurrentHashMap<>();
+    
+    // 쓰기(폐기, 재구성)는 드물므로 락으로 직렬화하고, 읽기는 락 없이 수행
+    private final Object writeLock = new Object();
+    private volatile BloomFilter revokedFilter;
+    
+    @PostConstruct
+    public void init() {
+        revokedFilter = BloomFilter.create(expectedRevokedTokens, falsePositiveRate);
+    }
+    
+    /**
+     * jti로 토큰이 폐기되었는지 확인합니다.
+     */
+    public boolean isRevoked(String jti) {
+        if (!revokedFilter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revokedTokens.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+    
+    /**
+     * 토큰을 폐기합니다. 동시에 같은 토큰을 폐기하려는 요청 중 하나만 성공합니다.
+     *
+     * @param jti 토큰 ID
+     * @param expiresAt 토큰 만료 시각 (이후 저장소에서 제거됨)
+     * @return 새로 폐기했으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(String jti, Date expiresAt) {
+        synchronized (writeLock) {
+            if (revokedTokens.putIfAbsent(jti, expiresAt.getTime()) != null) {
+                return false;
+            }
+            revokedFilter.put(jti);
+            return true;
+        }
+    }
+    
+    /**
+     * 사용자가 지금까지 발급받은 모든 토큰을 폐기합니다. (로그아웃)
+     */
+    public void revokeAllForUser(String userId) {
+        long cutoffSeconds = System.currentTimeMillis() / 1000;
+        userRevokedBefore.merge(userId, cutoffSeconds, Math::max);
+    }
+    
+    /**
+     * 로그아웃 이전에 발급된 토큰인지 확인합니다.
+     */
+    public boolean isRevokedForUser(String userId, Date issuedAt) {
+        Long cutoffSeconds = userRevokedBefore.get(userId);
+        if (cutoffSeconds == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 < cutoffSeconds;
+    }
+    
+    /**
+     * 만료된 폐기 항목을 제거하고 Bloom filter를 남은 항목으로 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:60000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        
+        // 로그아웃 기준 시각 이전 토큰은 최대 수명이 지나면 모두 만료됨
+        long expiredCutoffSeconds = (now - refreshTokenExpiration) / 1000;
+        userRevokedBefore.values().removeIf(cutoff -> cutoff < expiredCutoffSeconds);
+        
+        synchronized (writeLock) {
+            if (!revokedTokens.values().removeIf(expiresAt -> expiresAt <= now)) {
+                return;
+            }
+            BloomFilter rebuilt = BloomFilter.create(
+                    Math.max(expectedRevokedTokens, revokedTokens.size() * 2L), falsePositiveRate);
+            revokedTokens.keySet().forEach(rebuilt::put);
+            revokedFilter = rebuilt;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package bumaview.application.auth;
+
+import bumaview.common.util.BloomFilter;
+import bumaview.infrastructure.auth.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 존재하는 사용자 ID의 인메모리 Bloom filter
+ *
+ * mightExist가 false이면 ID가 확실히 없으므로 DB 조회를 생략할 수 있고, true일 때만 DB로 확인합니다.
+ * 시작 시 전체 ID로 채우고 가입/일괄 등록 시 추가하며, 다른 인스턴스에서 가입한 ID를 반영하기 위해 주기적으로 다시 만듭니다.
+ * 로딩 전에는 항상 true를 반환해 DB 조회로 대체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdFilter {
+    
+    private final UserRepository userRepository;
+    
+    @Value("${auth.id-filter.expected-users:100000}")
+    private long expectedUsers;
+    
+    @Value("${auth.id-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    
+    private final Object lock = new Object();
+    private volatile BloomFilter filter;
+    
+    // 재구성 중인 필터 (재구성 도중 추가된 ID도 빠지지 않도록 함께 기록)
+    private BloomFilter building;
+    
+    /**
+     * 주어진 ID가 존재할 수 있는지 확인합니다.
+     *
+     * @return false이면 확실히 존재하지 않음, true이면 DB 확인 필요
+     */
+    public boolean mightExist(String id) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(id);
+    }
+    
+    /**
+     * 새로 등록된 ID를 추가합니다.
+     */
+    public void add(String id) {
+        synchronized (lock) {
+            if (filter != null) {
+                filter.put(id);
+            }
+            if (building != null) {
+                building.put(id);
+            }
+        }
+    }
+    
+    /**
+     * 애플리케이션 시작 시 필터를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+    
+    /**
+     * 전체 사용자 ID로 필터를 다시 만듭니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${auth.id-filter.rebuild-interval:21600000}",
+            initialDelayString = "${auth.id-filter.rebuild-interval:21600000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(Math.max(expectedUsers, userRepository.count() * 2), falsePositiveRate);
+        synchronized (lock) {
+            building = next;
+        }
+        
+        userRepository.findAllIds().forEach(next::put);
+        
+        synchronized (lock) {
+            filter = next;
+            building = null;
+        }
+    }
+}
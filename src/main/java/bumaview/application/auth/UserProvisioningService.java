@@ -0,0 +1,205 @@
+package bumaview.application.auth;
+
+import bumaview.common.security.BoundedPasswordEncoder;
+import bumaview.domain.auth.Role;
+import bumaview.domain.auth.User;
+import bumaview.infrastructure.auth.UserBatchRepository;
+import bumaview.infrastructure.auth.UserRepository;
+import bumaview.presentation.auth.dto.UserUploadResult;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CSV 파일로 사용자를 일괄 등록하는 서비스
+ *
+ * 행을 한 줄씩 읽어 일정 개수마다 묶고, 묶음마다 중복 ID를 한 번의 쿼리로 확인한 뒤
+ * 패스워드를 해시 풀 전체에서 병렬로 해시하고 JDBC 배치로 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+    
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserIdFilter userIdFilter;
+    
+    @Value("${auth.provisioning.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${auth.provisioning.batch-size:100}")
+    private int batchSize;
+    
+    /**
+     * CSV 파일로 사용자를 일괄 등록합니다.
+     *
+     * @param file CSV 파일 (id, nickname, password, role 순서, role은 생략 시 USER)
+     * @return 업로드 결과
+     */
+    public UserUploadResult provisionFromCsv(MultipartFile file) {
+        List<String> errors = new ArrayList<>();
+        int totalCount = 0;
+        int successCount = 0;
+        
+        try (CSVReader csvReader = new CSVReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            // 헤더 건너뛰기
+            if (csvReader.readNext() == null) {
+                return new UserUploadResult(0, 0, 0, List.of("빈 파일입니다."));
+            }
+            
+            Set<String> seenIds = new HashSet<>();
+            List<PendingUser> chunk = new ArrayList<>(chunkSize);
+            String[] record;
+            int rowNumber = 1;
+            while ((record = csvReader.readNext()) != null) {
+                rowNumber++;
+                totalCount++;
+                
+                PendingUser pending = parseRow(record, rowNumber, errors);
+                if (pending == null) {
+                    continue;
+                }
+                if (!seenIds.add(pending.id)) {
+                    errors.add("행 " + rowNumber + ": 파일 안에 중복된 ID입니다. (" + pending.id + ")");
+                    continue;
+                }
+                
+                chunk.add(pending);
+                if (chunk.size() >= chunkSize) {
+                    successCount += saveChunk(chunk, errors);
+                    chunk.clear();
+                }
+            }
+            
+            if (!chunk.isEmpty()) {
+                successCount += saveChunk(chunk, errors);
+            }
+        
+        } catch (IOException | CsvValidationException e) {
+            errors.add("CSV 파일 읽기 오류: " + e.getMessage());
+            return new UserUploadResult(totalCount, successCount, totalCount - successCount, errors);
+        }
+        
+        return new UserUploadResult(totalCount, successCount, totalCount - successCount, errors);
+    }
+    
+    /**
+     * 한 행을 검증하고 등록 대기 사용자로 변환합니다.
+     *
+     * @return 유효하지 않은 행이면 null (오류는 errors에 추가)
+     */
+    private PendingUser parseRow(String[] record, int rowNumber, List<String> errors) {
+        if (record.length < 3) {
+            errors.add("행 " + rowNumber + ": 필수 컬럼이 부족합니다. (id, nickname, password 필요)");
+            return null;
+        }
+        
+        String id = record[0].trim();
+        String nickname = record[1].trim();
+        String password = record[2];
+        
+        // SignupRequest와 같은 규칙으로 검증
+        if (id.length() < 3 || id.length() > 20) {
+            errors.add("행 " + rowNumber + ": ID는 3-20자 사이여야 합니다.");
+            return null;
+        }
+        
+        if (nickname.isEmpty() || nickname.length() > 50) {
+            errors.add("행 " + rowNumber + ": 닉네임은 1-50자 사이여야 합니다.");
+            return null;
+        }
+        
+        if (password.isBlank() || password.length() < 8) {
+            errors.add("행 " + rowNumber + ": 패스워드는 최소 8자 이상이어야 합니다.");
+            return null;
+        }
+        
+        Role role = Role.USER;
+        if (record.length > 3 && !record[3].isBlank()) {
+            try {
+                role = Role.valueOf(record[3].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                errors.add("행 " + rowNumber + ": 알 수 없는 권한입니다. (" + record[3].trim() + ")");
+                return null;
+            }
+        }
+        
+        return new PendingUser(rowNumber, id, nickname, password, role);
+    }
+    
+    /**
+     * 묶음 단위로 중복 확인, 병렬 해시, 배치 저장을 수행합니다.
+     *
+     * @return 저장에 성공한 사용자 수
+     */
+    private int saveChunk(List<PendingUser> chunk, List<String> errors) {
+        // 이미 존재하는 ID를 한 번에 조회
+        Set<String> existingIds = new HashSet<>(userRepository.findExistingIds(chunk.stream().map(p -> p.id).toList()));
+        
+        List<PendingUser> newUsers = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (existingIds.contains(pending.id)) {
+                errors.add("행 " + pending.rowNumber + ": 이미 존재하는 ID입니다. (" + pending.id + ")");
+            } else {
+                newUsers.add(pending);
+            }
+        }
+        if (newUsers.isEmpty()) {
+            return 0;
+        }
+        
+        // 패스워드를 모든 해시 스레드에서 병렬로 해시
+        List<String> hashes = passwordEncoder.encodeAll(newUsers.stream().map(p -> p.password).toList());
+        
+        List<User> users = new ArrayList<>(newUsers.size());
+        for (int i = 0; i < newUsers.size(); i++) {
+            PendingUser pending = newUsers.get(i);
+            users.add(new User(pending.id, pending.nickname, hashes.get(i), pending.role));
+        }
+        
+        boolean[] inserted = userBatchRepository.batchInsert(users, batchSize);
+        int insertedCount = 0;
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i]) {
+                userIdFilter.add(users.get(i).getId());
+                insertedCount++;
+            } else {
+                PendingUser pending = newUsers.get(i);
+                errors.add("행 " + pending.rowNumber + ": 이미 존재하는 ID입니다. (" + pending.id + ")");
+            }
+        }
+        return insertedCount;
+    }
+    
+    /**
+     * 검증을 통과해 저장을 기다리는 CSV 행
+     */
+    private static class PendingUser {
+        
+        private final int rowNumber;
+        private final String id;
+        private final String nickname;
+        private final String password;
+        private final Role role;
+        
+        private PendingUser(int rowNumber, String id, String nickname, String password, Role role) {
+            this.rowNumber = rowNumber;
+            this.id = id;
+            this.nickname = nickname;
+            this.password = password;
+            this.role = role;
+        }
+    }
+}
@@ -4,14 +4,16 @@ import bumaview.domain.auth.User;
 import bumaview.domain.auth.Role;
 import bumaview.domain.auth.exception.DuplicateUserException;
 import bumaview.domain.auth.exception.InvalidCredentialsException;
-import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
 import bumaview.infrastructure.auth.UserRepository;
-import bumaview.infrastructure.scores.ScoreRepository;
 import bumaview.presentation.auth.dto.LoginRequest;
 import bumaview.presentation.auth.dto.SignupRequest;
 import bumaview.presentation.auth.dto.TokenResponse;
 import bumaview.presentation.auth.dto.UserInfoResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +26,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenService jwtTokenService;
-    private final AnswerRepository answerRepository;
-    private final ScoreRepository scoreRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final LoginThrottle loginThrottle;
+    private final UserIdFilter userIdFilter;
     
     /**
      * 새로운 사용자를 등록합니다.
@@ -49,7 +52,15 @@ public class UserService {
             Role.USER
         );
         
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 같은 ID로 동시에 가입한 경우
+            throw new DuplicateUserException("이미 존재하는 ID입니다: " + signupRequest.getId());
+        }
+        userIdFilter.add(savedUser.getId());
         
         // JWT 토큰 생성
         String accessToken = jwtTokenService.generateAccessToken(savedUser);
@@ -64,20 +75,36 @@ public class UserService {
     
     /**
      * 사용자 로그인을 처리합니다.
+     * 실패가 누적된 계정 또는 IP는 패스워드 검증 전에 차단됩니다.
      * 
      * @param loginRequest 로그인 요청 데이터
+     * @param clientIp 요청한 클라이언트 IP
      * @return JWT 토큰 정보
      * @throws InvalidCredentialsException 로그인 정보가 올바르지 않은 경우
+     * @throws TooManyLoginAttemptsException 로그인 실패가 누적되어 차단된 경우
      */
-    public TokenResponse login(LoginRequest loginRequest) {
+    public TokenResponse login(LoginRequest loginRequest, String clientIp) {
+        // 차단 여부 확인 (BCrypt 검증 전에 거부)
+        loginThrottle.checkAllowed(loginRequest.getId(), clientIp);
+        
         // 사용자 조회
-        User user = userRepository.findById(loginRequest.getId())
-            .orElseThrow(InvalidCredentialsException::new);
+        User user = userRepository.findById(loginRequest.getId()).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(loginRequest.getId(), clientIp);
+            throw new InvalidCredentialsException();
+        }
         
         // 패스워드 검증
         if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            loginThrottle.recordFailure(loginRequest.getId(), clientIp);
             throw new InvalidCredentialsException();
         }
+        loginThrottle.recordSuccess(loginRequest.getId());
+        
+        // 저장된 해시 비용이 목표 비용과 다르면 재해시 (트랜잭션 커밋 시 반영)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.changePassword(passwordEncoder.encode(loginRequest.getPassword()));
+        }
         
         // JWT 토큰 생성
         String accessToken = jwtTokenService.generateAccessToken(user);
@@ -88,11 +115,12 @@ public class UserService {
     
     /**
      * 사용자 로그아웃을 처리합니다.
-     * JWT 토큰은 stateless하므로 서버에서 별도 처리 없이 클라이언트에서 토큰을 삭제하도록 안내합니다.
+     * 로그아웃 시점 이전에 발급된 사용자의 모든 토큰을 폐기합니다.
+     *
+     * @param userId 사용자 ID
      */
-    public void logout() {
-        // JWT는 stateless하므로 서버에서 별도 로직이 필요 없음
-        // 클라이언트에서 토큰을 삭제하면 됨
+    public void logout(String userId) {
+        tokenRevocationStore.revokeAllForUser(userId);
     }
     
     /**
@@ -103,46 +131,53 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(String userId) {
+        // 통계는 답변/평가 변경 시 users 행에 누적되므로 기본 키 조회 한 번으로 충분
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. ID: " + userId));
         
-        // 사용자가 작성한 답변 수
-        Long answerCount = answerRepository.countByUserId(userId);
-        
-        // 사용자 답변의 평균 점수
-        Double averageScore = scoreRepository.findAverageScoreByUserId(userId);
-        if (averageScore != null) {
-            averageScore = Math.round(averageScore * 10.0) / 10.0;
-        }
-        
-        // 사용자가 평가한 답변 수
-        Long evaluatedCount = scoreRepository.countByUserId(userId);
-        
         return new UserInfoResponse(
             user.getId(),
             user.getNickname(),
-            answerCount,
-            averageScore,
-            evaluatedCount
+            user.getAnswerCount(),
+            user.getAverageReceivedScore(),
+            user.getEvaluatedCount()
         );
     }
     
     /**
      * 리프레시 토큰을 사용하여 새로운 액세스 토큰을 발급합니다.
+     * 사용한 리프레시 토큰은 즉시 폐기되며(회전), 같은 토큰으로는 다시 재발급할 수 없습니다.
      * 
      * @param refreshToken 리프레시 토큰
      * @return 새로운 토큰 정보
-     * @throws IllegalArgumentException 유효하지 않은 리프레시 토큰인 경우
+     * @throws IllegalArgumentException 유효하지 않거나 이미 사용/폐기된 리프레시 토큰인 경우
      */
     @Transactional(readOnly = true)
     public TokenResponse refreshToken(String refreshToken) {
         // 리프레시 토큰 검증
-        if (!jwtTokenService.isRefreshToken(refreshToken)) {
+        Claims claims;
+        try {
+            claims = jwtTokenService.validateToken(refreshToken);
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        if (!"refresh".equals(claims.get("tokenType")) || claims.getId() == null) {
             throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
         }
         
         // 토큰에서 사용자 ID 추출
-        String userId = jwtTokenService.getUserIdFromToken(refreshToken);
+        String userId = claims.getSubject();
+        
+        // 폐기 여부 확인 (로그아웃 또는 이미 회전된 토큰)
+        if (tokenRevocationStore.isRevokedForUser(userId, claims.getIssuedAt())
+                || tokenRevocationStore.isRevoked(claims.getId())) {
+            throw new IllegalArgumentException("이미 사용되었거나 폐기된 리프레시 토큰입니다.");
+        }
+        
+        // 기존 토큰 폐기 (동시 요청 중 하나만 성공)
+        if (!tokenRevocationStore.revoke(claims.getId(), claims.getExpiration())) {
+            throw new IllegalArgumentException("이미 사용되었거나 폐기된 리프레시 토큰입니다.");
+        }
         
         // 사용자 조회
         User user = userRepository.findById(userId)
@@ -155,6 +190,18 @@ public class UserService {
         return new TokenResponse(newAccessToken, newRefreshToken);
     }
     
+    /**
+     * 사용자 ID를 사용할 수 있는지 확인합니다.
+     * ID 필터에서 확실히 없다고 판정되면 DB 조회를 생략합니다.
+     *
+     * @param id 확인할 사용자 ID
+     * @return 사용 가능하면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean isIdAvailable(String id) {
+        return !userIdFilter.mightExist(id) || !userRepository.existsById(id);
+    }
+    
     /**
      * ID 중복 여부를 검증합니다.
      * 
@@ -162,7 +209,7 @@ public class UserService {
      * @throws DuplicateUserException ID가 이미 존재하는 경우
      */
     private void validateDuplicateId(String id) {
-        if (userRepository.existsById(id)) {
+        if (!isIdAvailable(id)) {
             throw new DuplicateUserException("이미 존재하는 ID입니다: " + id);
         }
     }
@@ -0,0 +1,323 @@
+package bumaview.application.questions;
+
+import bumaview.common.util.LongHashSet;
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.infrastructure.questions.QuestionCopyRepository;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import bumaview.infrastructure.questions.QuestionRepository;
+import bumaview.presentation.questions.dto.QuestionUploadResult;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CSV 질문 파일을 스트리밍으로 읽어 저장하는 가져오기 파이프라인
+ *
+ * 파일 전체를 메모리에 올리지 않고 행을 일정 개수씩 묶어 처리합니다.
+ * - 묶음 안의 행은 병렬로 검증
+ * - 묶음마다 별도 트랜잭션으로 저장 (시퀀스 ID이므로 JDBC 배치로 INSERT)
+ * - 커밋된 묶음마다 등록 이벤트를 발행하고 참조를 놓아, 파일 크기와 무관하게 메모리 사용량이 일정
+ * 묶음 저장이 실패하면 행마다 별도 트랜잭션으로 다시 저장해 실패한 행만 제외합니다.
+ * 대량 등록용 COPY 방식은 같은 검증을 거친 행을 임시 테이블로 스트리밍해 한 번에 병합합니다.
+ * 이미 등록된 질문(또는 파일 안에서 앞서 나온 질문)과 지문이 같은 행은 저장하지 않고 중복으로 셉니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionCsvImporter {
+    
+    private static final int MAX_CONTENT_LENGTH = 1000;
+    private static final int MAX_COMPANY_LENGTH = 100;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    
+    private final QuestionRepository questionRepository;
+    private final QuestionCopyRepository questionCopyRepository;
+    private final QuestionExportRepository questionExportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${questions.import.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Value("${questions.import.max-errors:100}")
+    private int maxErrors;
+    
+    /**
+     * CSV 스트림의 질문을 묶음 단위로 등록합니다.
+     *
+     * @param inputStream CSV 입력 (content, category, company, questionAt 순서, 첫 행은 헤더)
+     * @return 업로드 결과
+     */
+    public QuestionUploadResult importCsv(InputStream inputStream) {
+        QuestionImportProgress progress = newProgress();
+        importCsv(inputStream, progress);
+        return progress.toResult();
+    }
+    
+    /**
+     * CSV 스트림의 질문을 묶음 단위로 등록하며 진행 상황을 progress에 기록합니다.
+     * 취소되면 이미 커밋된 묶음은 유지하고 남은 행은 읽지 않습니다.
+     */
+    public void importCsv(InputStream inputStream, QuestionImportProgress progress) {
+        LongHashSet fingerprints = loadFingerprints();
+        readValidChunks(inputStream, progress, fingerprints, valid -> {
+            List<Question> saved = saveChunk(valid, progress);
+            if (!saved.isEmpty()) {
+                eventPublisher.publishEvent(new QuestionsCreatedEvent(saved));
+            }
+        });
+    }
+    
+    /**
+     * CSV 스트림의 질문을 PostgreSQL COPY로 등록합니다.
+     * 검증은 {@link #importCsv(InputStream)}와 같고, 유효한 행 전체를 하나의 트랜잭션으로 저장합니다.
+     * 파일 읽기나 저장 중 오류가 나면 아무 행도 저장하지 않습니다.
+     *
+     * @param inputStream CSV 입력 (content, category, company, questionAt 순서, 첫 행은 헤더)
+     * @return 업로드 결과
+     */
+    public QuestionUploadResult importCsvWithCopy(InputStream inputStream) {
+        QuestionImportProgress progress = newProgress();
+        importCsvWithCopy(inputStream, progress);
+        return progress.toResult();
+    }
+    
+    /**
+     * CSV 스트림의 질문을 PostgreSQL COPY로 등록하며 진행 상황을 progress에 기록합니다.
+     * 성공 수는 병합이 끝난 뒤에 반영되며, 취소되면 전체를 롤백합니다.
+     */
+    public void importCsvWithCopy(InputStream inputStream, QuestionImportProgress progress) {
+        LongHashSet fingerprints = loadFingerprints();
+        int[] validCount = new int[1];
+        boolean[] rolledBack = new boolean[1];
+        int inserted;
+        
+        try {
+            inserted = transactionTemplate.execute(status -> {
+                int count = questionCopyRepository.copyInsert(writer ->
+                    readValidChunks(inputStream, progress, fingerprints, valid -> {
+                        for (CsvRow row : valid) {
+                            writer.write(row.question);
+                        }
+                        validCount[0] += valid.size();
+                    }));
+                if (progress.isReadFailed() || progress.isCancelled()) {
+                    status.setRollbackOnly();
+                    rolledBack[0] = true;
+                    return 0;
+                }
+                return count;
+            });
+        } catch (RuntimeException e) {
+            progress.addError("저장 오류: " + e.getMessage());
+            rolledBack[0] = true;
+            inserted = 0;
+        }
+        
+        progress.addSuccess(inserted);
+        if (rolledBack[0]) {
+            progress.addFailure(validCount[0]);
+        } else {
+            // 지문을 불러온 이후 다른 요청이 등록한 질문은 병합 시 ON CONFLICT로 건너뜀
+            progress.addDuplicate(validCount[0] - inserted);
+        }
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new QuestionsImportedEvent(inserted));
+        }
+    }
+    
+    public QuestionImportProgress newProgress() {
+        return new QuestionImportProgress(maxErrors);
+    }
+    
+    /**
+     * 이미 등록된 질문의 지문을 커서로 읽어 앞 64비트만 보관합니다. (가져오기마다 한 번, 이후 중복 확인은 메모리에서 수행)
+     * 지문 문자열 대신 long만 저장하므로 원소당 약 16바이트로 카탈로그와 파일 크기에 비해 메모리 사용이 작습니다.
+     * 서로 다른 질문의 앞 64비트가 같을 확률은 무시할 만큼 작으며(1천만 건에서 약 37만분의 1),
+     * 그 경우 새 질문이 중복으로 세어집니다.
+     */
+    private LongHashSet loadFingerprints() {
+        LongHashSet fingerprints = new LongHashSet();
+        questionExportRepository.forEachFingerprint(fingerprint -> fingerprints.add(fingerprintPrefix(fingerprint)));
+        return fingerprints;
+    }
+    
+    /**
+     * 16진수 SHA-256 지문의 앞 64비트
+     */
+    private static long fingerprintPrefix(String fingerprint) {
+        return Long.parseUnsignedLong(fingerprint, 0, 16, 16);
+    }
+    
+    /**
+     * CSV를 한 행씩 읽어 묶음마다 병렬로 검증하고, 유효하며 중복이 아닌 행을 handler에 넘깁니다.
+     * 유효하지 않은 행과 읽기 오류는 progress에 기록하고, 취소되면 다음 묶음 전에 멈춥니다.
+     *
+     * @param fingerprints 등록된 질문의 지문 (파일 안의 중복도 걸러내도록 통과한 행의 지문을 추가함)
+     */
+    private void readValidChunks(InputStream inputStream, QuestionImportProgress progress, LongHashSet fingerprints,
+                                 Consumer<List<CsvRow>> handler) {
+        try (CSVReader csvReader = new CSVReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            // 헤더 건너뛰기
+            if (csvReader.readNext() == null) {
+                progress.addError("빈 파일입니다.");
+                return;
+            }
+            
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            String[] record;
+            int rowNumber = 1;
+            while (!progress.isCancelled() && (record = csvReader.readNext()) != null) {
+                rowNumber++;
+                chunk.add(new CsvRow(rowNumber, record));
+                if (chunk.size() >= chunkSize) {
+                    handleChunk(chunk, progress, fingerprints, handler);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            
+            if (!chunk.isEmpty() && !progress.isCancelled()) {
+                handleChunk(chunk, progress, fingerprints, handler);
+            }
+        
+        } catch (IOException | CsvValidationException e) {
+            progress.markReadFailed();
+            progress.addError("CSV 파일 읽기 오류: " + e.getMessage());
+        }
+    }
+    
+    private void handleChunk(List<CsvRow> chunk, QuestionImportProgress progress, LongHashSet fingerprints,
+                             Consumer<List<CsvRow>> handler) {
+        // 검증은 행끼리 독립적이므로 병렬로 수행 (결과 순서는 유지)
+        List<CsvRow> validated = chunk.parallelStream()
+                .map(QuestionCsvImporter::validate)
+                .toList();
+        
+        List<CsvRow> valid = new ArrayList<>(validated.size());
+        for (CsvRow row : validated) {
+            if (row.error != null) {
+                progress.addError("행 " + row.rowNumber + ": " + row.error);
+                progress.addFailure(1);
+            } else if (!fingerprints.add(fingerprintPrefix(row.question.getFingerprint()))) {
+                progress.addDuplicate(1);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (!valid.isEmpty()) {
+            handler.accept(valid);
+        }
+        progress.addProcessed(chunk.size());
+    }
+    
+    /**
+     * 묶음을 한 트랜잭션으로 저장하고, 실패하면 행마다 별도 트랜잭션으로 다시 저장합니다.
+     *
+     * @return 저장된 질문 목록
+     */
+    private List<Question> saveChunk(List<CsvRow> rows, QuestionImportProgress progress) {
+        try {
+            List<Question> saved = transactionTemplate.execute(status ->
+                questionRepository.saveAll(rows.stream().map(row -> row.question).toList()));
+            progress.addSuccess(saved.size());
+            return saved;
+        } catch (RuntimeException e) {
+            List<Question> saved = new ArrayList<>(rows.size());
+            for (CsvRow row : rows) {
+                try {
+                    // 실패한 묶음에서 ID가 할당되었을 수 있으므로 새 엔티티로 저장
+                    Question question = new Question(row.question.getContent(), row.question.getCompany(),
+                        row.question.getCategory(), row.question.getQuestionAt());
+                    saved.add(transactionTemplate.execute(status -> questionRepository.saveAndFlush(question)));
+                    progress.addSuccess(1);
+                } catch (DataIntegrityViolationException duplicate) {
+                    // 지문을 불러온 이후 다른 요청이 같은 질문을 등록한 경우
+                    progress.addDuplicate(1);
+                } catch (RuntimeException rowException) {
+                    progress.addError("행 " + row.rowNumber + ": " + rowException.getMessage());
+                    progress.addFailure(1);
+                }
+            }
+            return saved;
+        }
+    }
+    
+    /**
+     * 행을 검증해 질문을 만들거나 오류 메시지를 채웁니다.
+     */
+    private static CsvRow validate(CsvRow row) {
+        String[] record = row.record;
+        if (record.length < 4) {
+            return row.fail("필수 컬럼이 부족합니다. (content, category, company, questionAt 필요)");
+        }
+        
+        String content = record[0].trim();
+        String category = record[1].trim();
+        String company = record[2].trim();
+        String questionAt = record[3].trim();
+        
+        if (content.isEmpty()) {
+            return row.fail("질문 내용은 필수입니다.");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            return row.fail("질문 내용은 " + MAX_CONTENT_LENGTH + "자를 초과할 수 없습니다. (현재: " + content.length() + "자)");
+        }
+        if (company.isEmpty()) {
+            return row.fail("회사명은 필수입니다.");
+        }
+        if (company.length() > MAX_COMPANY_LENGTH) {
+            return row.fail("회사명은 " + MAX_COMPANY_LENGTH + "자를 초과할 수 없습니다. (현재: " + company.length() + "자)");
+        }
+        if (category.isEmpty()) {
+            return row.fail("카테고리는 필수입니다.");
+        }
+        if (category.length() > MAX_CATEGORY_LENGTH) {
+            return row.fail("카테고리는 " + MAX_CATEGORY_LENGTH + "자를 초과할 수 없습니다. (현재: " + category.length() + "자)");
+        }
+        if (questionAt.length() != 4) {
+            return row.fail("질문 년도는 4자리여야 합니다.");
+        }
+        
+        return row.succeed(new Question(content, company, category, questionAt));
+    }
+    
+    /**
+     * CSV 한 행과 검증 결과
+     */
+    private static class CsvRow {
+        
+        private final int rowNumber;
+        private final String[] record;
+        private Question question;
+        private String error;
+        
+        private CsvRow(int rowNumber, String[] record) {
+            this.rowNumber = rowNumber;
+            this.record = record;
+        }
+        
+        private CsvRow succeed(Question question) {
+            this.question = question;
+            return this;
+        }
+        
+        private CsvRow fail(String error) {
+            this.error = error;
+            return this;
+        }
+    }
+}
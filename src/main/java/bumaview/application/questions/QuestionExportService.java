@@ -0,0 +1,110 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.QuestionExportFormat;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 질문을 CSV 또는 NDJSON으로 스트리밍해 내보내는 서비스
+ *
+ * DB 커서에서 읽은 행을 바로 출력 스트림에 쓰므로 전체 목록을 메모리에 만들지 않습니다.
+ * CSV는 일괄 등록과 같은 컬럼 순서라 내보낸 파일을 고쳐 다시 업로드할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionExportService {
+    
+    private static final String[] CSV_HEADER = {"content", "category", "company", "questionAt"};
+    
+    private final QuestionExportRepository questionExportRepository;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    
+    /**
+     * 조건에 맞는 질문을 출력 스트림에 씁니다.
+     *
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @param format 내보내기 형식
+     * @param outputStream 출력 스트림 (닫지 않음)
+     */
+    public void export(String company, String category, String questionAt, QuestionExportFormat format,
+                       OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == QuestionExportFormat.NDJSON) {
+            exportNdjson(company, category, questionAt, writer);
+        } else {
+            exportCsv(company, category, questionAt, writer);
+        }
+        writer.flush();
+    }
+    
+    private void exportCsv(String company, String category, String questionAt, Writer writer) throws IOException {
+        writeCsvRow(writer, CSV_HEADER);
+        String[] row = new String[CSV_HEADER.length];
+        questionExportRepository.forEachQuestion(company, category, questionAt, (id, content, rowCompany, rowCategory, rowQuestionAt) -> {
+            row[0] = content;
+            row[1] = rowCategory;
+            row[2] = rowCompany;
+            row[3] = rowQuestionAt;
+            try {
+                writeCsvRow(writer, row);
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊기면 커서 읽기를 바로 멈춤
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    private void exportNdjson(String company, String category, String questionAt, Writer writer) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(writer);
+        // 행마다 줄바꿈으로 구분 (루트 값 사이 기본 구분자 대신)
+        generator.setRootValueSeparator(null);
+        questionExportRepository.forEachQuestion(company, category, questionAt, (id, content, rowCompany, rowCategory, rowQuestionAt) -> {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("id", id);
+                generator.writeStringField("content", content);
+                generator.writeStringField("company", rowCompany);
+                generator.writeStringField("category", rowCategory);
+                generator.writeStringField("questionAt", rowQuestionAt);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+    
+    /**
+     * 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싸 한 행을 씁니다.
+     */
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i] == null ? "" : values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,125 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.infrastructure.questions.QuestionRepository;
+import bumaview.presentation.questions.dto.QuestionFacetsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회사/카테고리/년도별 질문 수 집계
+ *
+ * 시작 시 GROUP BY 한 번으로 집계를 만들고, 이후에는 질문 등록/삭제 이벤트로 증감만 반영합니다.
+ * 시작 직후 로딩과 이벤트가 겹쳐 생길 수 있는 오차는 주기적인 재집계로 바로잡습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionFacetCounter {
+    
+    private final QuestionRepository questionRepository;
+    
+    private final Map<String, Long> companies = new HashMap<>();
+    private final Map<String, Long> categories = new HashMap<>();
+    private final Map<String, Long> years = new HashMap<>();
+    private long total;
+    
+    private volatile boolean ready;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+    
+    /**
+     * DB에서 조건 조합별 질문 수를 다시 집계합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${questions.facets.rebuild-interval:3600000}",
+            initialDelayString = "${questions.facets.rebuild-interval:3600000}")
+    public void rebuild() {
+        List<Object[]> rows = questionRepository.countGroupByFacets();
+        synchronized (this) {
+            companies.clear();
+            categories.clear();
+            years.clear();
+            total = 0;
+            for (Object[] row : rows) {
+                apply((String) row[0], (String) row[1], (String) row[2], ((Number) row[3]).longValue());
+            }
+            ready = true;
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onQuestionsCreated(QuestionsCreatedEvent event) {
+        for (Question question : event.getQuestions()) {
+            apply(question.getCompany(), question.getCategory(), question.getQuestionAt(), 1);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onQuestionsDeleted(QuestionsDeletedEvent event) {
+        for (QuestionKey question : event.getQuestions()) {
+            apply(question.getCompany(), question.getCategory(), question.getQuestionAt(), -1);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsImported(QuestionsImportedEvent event) {
+        rebuild();
+    }
+    
+    /**
+     * 현재 집계를 반환합니다. 시작 시 집계가 아직 끝나지 않았으면 먼저 집계합니다.
+     */
+    public QuestionFacetsResponse getFacets() {
+        if (!ready) {
+            rebuild();
+        }
+        synchronized (this) {
+            return new QuestionFacetsResponse(total, sorted(companies), sorted(categories), sorted(years));
+        }
+    }
+    
+    private void apply(String company, String category, String questionAt, long delta) {
+        add(companies, company, delta);
+        add(categories, category, delta);
+        add(years, questionAt, delta);
+        total += delta;
+    }
+    
+    private static void add(Map<String, Long> counts, String key, long delta) {
+        // 0 이하가 되면 항목을 제거해 사이드바에 빈 항목이 남지 않게 함
+        counts.compute(key, (k, count) -> {
+            long next = (count == null ? 0 : count) + delta;
+            return next > 0 ? next : null;
+        });
+    }
+    
+    /**
+     * 질문 수 내림차순, 같으면 이름순으로 정렬한 복사본을 만듭니다.
+     */
+    private static Map<String, Long> sorted(Map<String, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+}
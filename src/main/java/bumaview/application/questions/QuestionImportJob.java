@@ -0,0 +1,63 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.QuestionImportJobStatus;
+import bumaview.domain.questions.QuestionImportMode;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+
+/**
+ * 백그라운드에서 실행되는 CSV 질문 가져오기 작업
+ */
+@Getter
+public class QuestionImportJob {
+    
+    private final String id;
+    private final QuestionImportMode mode;
+    private final QuestionImportProgress progress;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    
+    private volatile QuestionImportJobStatus status = QuestionImportJobStatus.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    
+    // 업로드 파일을 옮겨 둔 임시 파일 (작업이 끝나면 삭제)
+    @Getter(AccessLevel.NONE)
+    private final Path file;
+    @Getter(AccessLevel.NONE)
+    private volatile Future<?> future;
+    
+    QuestionImportJob(String id, QuestionImportMode mode, QuestionImportProgress progress, Path file) {
+        this.id = id;
+        this.mode = mode;
+        this.progress = progress;
+        this.file = file;
+    }
+    
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+    
+    Path file() {
+        return file;
+    }
+    
+    Future<?> future() {
+        return future;
+    }
+    
+    void submitted(Future<?> future) {
+        this.future = future;
+    }
+    
+    void start() {
+        status = QuestionImportJobStatus.RUNNING;
+    }
+    
+    void finish(QuestionImportJobStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,188 @@
+package bumaview.application.questions;
+
+import bumaview.common.exception.ServerBusyException;
+import bumaview.domain.questions.QuestionImportJobStatus;
+import bumaview.domain.questions.QuestionImportMode;
+import bumaview.domain.questions.exception.ImportJobNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSV 질문 가져오기를 백그라운드 작업으로 실행하는 서비스
+ *
+ * 요청 스레드는 업로드 파일을 임시 파일로 옮긴 뒤 작업 ID를 바로 반환하고,
+ * 가져오기는 크기가 제한된 전용 스레드 풀에서 실행됩니다. 대기열이 가득 차면 503으로 거절합니다.
+ * 끝난 작업은 보관 기간 동안 진행 상황을 조회할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionImportJobService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QuestionImportJobService.class);
+    
+    private final QuestionCsvImporter questionCsvImporter;
+    
+    @Value("${questions.import.jobs.threads:2}")
+    private int threads;
+    
+    @Value("${questions.import.jobs.queue-capacity:8}")
+    private int queueCapacity;
+    
+    @Value("${questions.import.jobs.retention:1h}")
+    private Duration retention;
+    
+    @Value("${questions.import.jobs.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+    
+    private final Map<String, QuestionImportJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "question-import-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(job -> job.getProgress().cancel());
+        executor.shutdown();
+    }
+    
+    /**
+     * 가져오기 작업을 등록합니다.
+     *
+     * @param file CSV 파일 (content, category, company, questionAt 순서)
+     * @param mode 등록 방식
+     * @return 등록된 작업
+     * @throws ServerBusyException 실행 대기 중인 작업이 너무 많은 경우
+     */
+    public QuestionImportJob submit(MultipartFile file, QuestionImportMode mode) {
+        // 요청이 끝나면 업로드 임시 파일이 삭제되므로 작업용 파일로 옮겨 둠
+        Path path;
+        try {
+            path = Files.createTempFile("question-import-", ".csv");
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 파일을 저장하지 못했습니다.", e);
+        }
+        
+        QuestionImportJob job = new QuestionImportJob(
+            UUID.randomUUID().toString(), mode, questionCsvImporter.newProgress(), path);
+        jobs.put(job.getId(), job);
+        try {
+            job.submitted(executor.submit(() -> run(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteFile(path);
+            throw new ServerBusyException("진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        return job;
+    }
+    
+    /**
+     * 작업을 조회합니다.
+     *
+     * @throws ImportJobNotFoundException 존재하지 않거나 보관 기간이 지난 작업인 경우
+     */
+    public QuestionImportJob getJob(String jobId) {
+        QuestionImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+    
+    /**
+     * 작업을 취소합니다.
+     * 대기 중이면 바로 취소되고, 실행 중이면 처리 중인 묶음을 마친 뒤 멈춥니다. (BATCH는 커밋된 묶음 유지, COPY는 전체 롤백)
+     *
+     * @return 취소 요청된 작업
+     */
+    public QuestionImportJob cancel(String jobId) {
+        QuestionImportJob job = getJob(jobId);
+        if (job.isFinished()) {
+            return job;
+        }
+        
+        job.getProgress().cancel();
+        if (job.future() != null && job.future().cancel(false)) {
+            // 실행되기 전에 취소되어 run이 호출되지 않음
+            job.finish(QuestionImportJobStatus.CANCELLED);
+            deleteFile(job.file());
+        }
+        return job;
+    }
+    
+    /**
+     * 보관 기간이 지난 끝난 작업을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${questions.import.jobs.prune-interval:600000}")
+    public void prune() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+    
+    private void run(QuestionImportJob job) {
+        QuestionImportProgress progress = job.getProgress();
+        if (progress.isCancelled()) {
+            job.finish(QuestionImportJobStatus.CANCELLED);
+            deleteFile(job.file());
+            return;
+        }
+        
+        job.start();
+        try (InputStream inputStream = Files.newInputStream(job.file())) {
+            if (job.getMode() == QuestionImportMode.COPY) {
+                questionCsvImporter.importCsvWithCopy(inputStream, progress);
+            } else {
+                questionCsvImporter.importCsv(inputStream, progress);
+            }
+            job.finish(progress.isCancelled() ? QuestionImportJobStatus.CANCELLED : QuestionImportJobStatus.COMPLETED);
+        } catch (Exception e) {
+            logger.error("Question import job {} failed", job.getId(), e);
+            progress.addError("가져오기 오류: " + e.getMessage());
+            job.finish(QuestionImportJobStatus.FAILED);
+        } finally {
+            deleteFile(job.file());
+        }
+    }
+    
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete import file {}", path, e);
+        }
+    }
+}
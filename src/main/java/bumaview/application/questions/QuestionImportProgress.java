@@ -0,0 +1,106 @@
+package bumaview.application.questions;
+
+import bumaview.presentation.questions.dto.QuestionUploadResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 질문 가져오기 진행 상황
+ *
+ * 가져오기 스레드가 갱신하고 다른 스레드(진행 상황 조회, 취소 요청)가 읽을 수 있습니다.
+ * 오류 메시지는 최대 개수까지만 보관하고 나머지는 개수만 셉니다.
+ */
+public class QuestionImportProgress {
+    
+    private final int maxErrors;
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final AtomicInteger duplicateCount = new AtomicInteger();
+    private final List<String> errors = new ArrayList<>();
+    private int omittedErrors;
+    
+    private volatile boolean readFailed;
+    private volatile boolean cancelled;
+    
+    public QuestionImportProgress(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+    
+    public int getProcessedCount() {
+        return processedCount.get();
+    }
+    
+    public int getSuccessCount() {
+        return successCount.get();
+    }
+    
+    public int getFailureCount() {
+        return failureCount.get();
+    }
+    
+    public int getDuplicateCount() {
+        return duplicateCount.get();
+    }
+    
+    /**
+     * 지금까지의 오류 메시지 복사본을 반환합니다. (생략된 오류가 있으면 마지막에 개수 안내)
+     */
+    public synchronized List<String> getErrors() {
+        List<String> reported = new ArrayList<>(errors);
+        if (omittedErrors > 0) {
+            reported.add("그 외 " + omittedErrors + "건의 오류가 생략되었습니다.");
+        }
+        return reported;
+    }
+    
+    /**
+     * 취소를 요청합니다. 가져오기는 처리 중인 묶음을 마친 뒤 멈춥니다.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    public QuestionUploadResult toResult() {
+        return new QuestionUploadResult(getProcessedCount(), getSuccessCount(), getFailureCount(), getDuplicateCount(),
+            getErrors());
+    }
+    
+    synchronized void addError(String error) {
+        if (errors.size() < maxErrors) {
+            errors.add(error);
+        } else {
+            omittedErrors++;
+        }
+    }
+    
+    void addProcessed(int count) {
+        processedCount.addAndGet(count);
+    }
+    
+    void addSuccess(int count) {
+        successCount.addAndGet(count);
+    }
+    
+    void addFailure(int count) {
+        failureCount.addAndGet(count);
+    }
+    
+    void addDuplicate(int count) {
+        duplicateCount.addAndGet(count);
+    }
+    
+    void markReadFailed() {
+        readFailed = true;
+    }
+    
+    boolean isReadFailed() {
+        return readFailed;
+    }
+}
@@ -0,0 +1,177 @@
+package bumaview.application.questions;
+
+import bumaview.common.pagination.CursorPage;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.presentation.questions.dto.QuestionResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 회사/카테고리/년도 조건별 질문 목록 페이지 캐시
+ *
+ * Caffeine의 W-TinyLFU로 자주 쓰이는 조건 조합을 우선 유지합니다.
+ * 질문 등록/삭제 시 그 질문이 포함될 수 있는 조건 조합의 페이지만 제거합니다.
+ * 커서가 변경된 질문 ID보다 큰 페이지(또는 첫 페이지)만 영향을 받습니다.
+ * 등록도 같은 기준을 사용합니다. ID는 INSERT 전에 시퀀스에서 할당되므로 동시 등록이 순서와 다르게 커밋되면
+ * 나중에 커밋된 작은 ID가 이미 캐시된 커서 페이지 안에 들어갈 수 있습니다.
+ */
+@Component
+public class QuestionListCache {
+    
+    @Value("${questions.list-cache.maximum-size:1000}")
+    private long maximumSize;
+    
+    @Value("${questions.list-cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+    
+    private Cache<PageKey, CursorPage<QuestionResponse>> cache;
+    
+    // 무효화마다 증가, 조회 도중 무효화가 일어났으면 조회 결과를 캐시에 남기지 않음
+    private final AtomicLong generation = new AtomicLong();
+    
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 loader로 조회해 저장합니다.
+     */
+    public CursorPage<QuestionResponse> get(String company, String category, String questionAt, Long afterId, int limit,
+                                            Supplier<CursorPage<QuestionResponse>> loader) {
+        PageKey key = new PageKey(company, category, questionAt, afterId, limit);
+        CursorPage<QuestionResponse> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long startGeneration = generation.get();
+        CursorPage<QuestionResponse> loaded = loader.get();
+        cache.put(key, loaded);
+        if (generation.get() != startGeneration) {
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsCreated(QuestionsCreatedEvent event) {
+        invalidate(event.getQuestions().stream().map(QuestionKey::of).toList());
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsDeleted(QuestionsDeletedEvent event) {
+        invalidate(event.getQuestions());
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsImported(QuestionsImportedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+    
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+    
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+    
+    private void invalidate(List<QuestionKey> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        Predicate<PageKey> stale = key -> questions.stream()
+                .anyMatch(question -> key.matches(question) && key.containsId(question.getId()));
+        cache.asMap().keySet().removeIf(stale);
+    }
+    
+    /**
+     * 조건 조합과 커서 위치로 구성된 캐시 키
+     */
+    private static class PageKey {
+        
+        private final String company;
+        private final String category;
+        private final String questionAt;
+        private final Long afterId;
+        private final int limit;
+        
+        private PageKey(String company, String category, String questionAt, Long afterId, int limit) {
+            this.company = company;
+            this.category = category;
+            this.questionAt = questionAt;
+            this.afterId = afterId;
+            this.limit = limit;
+        }
+        
+        /**
+         * 질문이 이 조건 조합의 목록에 포함되는지 확인합니다.
+         */
+        private boolean matches(QuestionKey question) {
+            return (company == null || company.equals(question.getCompany()))
+                    && (category == null || category.equals(question.getCategory()))
+                    && (questionAt == null || questionAt.equals(question.getQuestionAt()));
+        }
+        
+        /**
+         * 첫 페이지이거나 커서보다 작은 ID면 그 페이지 범위에 들어갑니다.
+         */
+        private boolean containsId(Long id) {
+            return afterId == null || id < afterId;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PageKey other)) {
+                return false;
+            }
+            return limit == other.limit
+                    && Objects.equals(company, other.company)
+                    && Objects.equals(category, other.category)
+                    && Objects.equals(questionAt, other.questionAt)
+                    && Objects.equals(afterId, other.afterId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(company, category, questionAt, afterId, limit);
+        }
+    }
+}
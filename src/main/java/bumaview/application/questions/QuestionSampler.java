@@ -0,0 +1,279 @@
+package bumaview.application.questions;
+
+import bumaview.domain.answers.event.AnswerCreatedEvent;
+import bumaview.domain.answers.event.AnswerDeletedEvent;
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 사용자가 아직 답하지 않은 질문을 무작위로 뽑는 샘플러
+ *
+ * 회사/카테고리/년도 조합마다 질문 ID 배열을 두고, 사용자별로 답변한 질문 ID를 정렬된 배열로 캐시해 이진 탐색합니다.
+ * 사용자당 메모리는 답변한 질문 수에 비례하며 질문 ID 크기와는 무관합니다.
+ * 배열에서 임의 위치를 뽑아 이미 답했거나 중복이면 버리는 방식(rejection sampling)이므로
+ * 남은 질문이 충분하면 뽑는 개수에 비례하는 시간이 걸리고, 거절이 많아지면 남은 후보를 한 번 훑어 뽑습니다.
+ * 전체 재구성은 잠금 밖에서 새 목록을 만든 뒤 짧게 잠가 교체하므로 그동안에도 샘플링과 등록/삭제 반영이 막히지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionSampler {
+    
+    // 조건 값이 없는(전체) 경우를 나타내는 키 구성 요소
+    private static final String ANY = "\u0000";
+    
+    private final QuestionExportRepository questionExportRepository;
+    private final AnswerRepository answerRepository;
+    
+    @Value("${questions.sampler.answered-cache.maximum-size:10000}")
+    private long answeredCacheMaximumSize;
+    
+    @Value("${questions.sampler.answered-cache.expire-after-access:30m}")
+    private Duration answeredCacheExpireAfterAccess;
+    
+    private final Object catalogLock = new Object();
+    
+    // 질문 ID -> 필터 값, 변경 시 조합별 배열을 다시 만듦 (catalogLock 안에서만 교체/수정)
+    private Map<Long, QuestionKey> catalog = new HashMap<>();
+    // 재구성 중에 들어온 등록/삭제 (교체 직전에 새 목록에 다시 적용)
+    private List<Consumer<Map<Long, QuestionKey>>> pendingChanges;
+    private volatile Map<String, long[]> idsByFilter = Map.of();
+    private volatile boolean dirty;
+    private volatile boolean ready;
+    
+    // 사용자 ID -> 답변한 질문 ID (오름차순, 중복 없음)
+    private Cache<String, long[]> answeredCache;
+    
+    @PostConstruct
+    public void init() {
+        answeredCache = Caffeine.newBuilder()
+                .maximumSize(answeredCacheMaximumSize)
+                .expireAfterAccess(answeredCacheExpireAfterAccess)
+                .build();
+    }
+    
+    /**
+     * 애플리케이션 시작 시 전체 질문의 필터 값을 불러옵니다.
+     * 필요한 컬럼만 커서로 나누어 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        synchronized (catalogLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        
+        Map<Long, QuestionKey> loaded = new HashMap<>();
+        try {
+            questionExportRepository.forEachQuestionKey(key -> loaded.put(key.getId(), key));
+        } catch (RuntimeException e) {
+            synchronized (catalogLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+        Map<String, long[]> loadedIds = buildIds(loaded);
+        
+        synchronized (catalogLock) {
+            if (pendingChanges.isEmpty()) {
+                idsByFilter = loadedIds;
+                dirty = false;
+            } else {
+                pendingChanges.forEach(change -> change.accept(loaded));
+                dirty = true;
+            }
+            pendingChanges = null;
+            catalog = loaded;
+            ready = true;
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsCreated(QuestionsCreatedEvent event) {
+        List<Question> created = event.getQuestions();
+        apply(target -> created.stream()
+                .filter(question -> question.getId() != null)
+                .forEach(question -> target.put(question.getId(), QuestionKey.of(question))));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsDeleted(QuestionsDeletedEvent event) {
+        List<Long> deletedIds = event.getQuestionIds();
+        apply(target -> deletedIds.forEach(target::remove));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsImported(QuestionsImportedEvent event) {
+        load();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerCreated(AnswerCreatedEvent event) {
+        // 캐시된 사용자만 갱신 (로딩 중이면 로딩이 끝난 뒤 반영됨)
+        answeredCache.asMap().computeIfPresent(event.getUserId(), (userId, answered) -> {
+            // 샘플링 중인 스레드와 공유하므로 한 칸 늘린 복사본에 끼워 넣어 교체
+            return withAnswered(answered, event.getQuestionId());
+        });
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerDeleted(AnswerDeletedEvent event) {
+        // 같은 질문에 다른 답변이 남아 있을 수 있으므로 다시 불러오도록 제거
+        answeredCache.invalidate(event.getUserId());
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 조건에 맞고 사용자가 답하지 않은 질문 ID를 무작위로 뽑습니다.
+     *
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @param userId 사용자 ID
+     * @param amount 뽑을 질문 수
+     * @return 뽑힌 질문 ID 목록 (후보가 부족하면 amount보다 적음)
+     */
+    public List<Long> sample(String company, String category, String questionAt, String userId, int amount) {
+        long[] ids = currentIds().get(key(company, category, questionAt));
+        if (ids == null || ids.length == 0) {
+            return List.of();
+        }
+        long[] answered = answeredCache.get(userId, this::loadAnswered);
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> picked = new ArrayList<>(Math.min(amount, ids.length));
+        Set<Long> pickedSet = new HashSet<>();
+        
+        // 거절이 너무 많으면 (남은 후보가 적으면) 전체 순회로 전환
+        int maxAttempts = amount * 4 + 16;
+        for (int attempt = 0; attempt < maxAttempts && picked.size() < amount; attempt++) {
+            long id = ids[random.nextInt(ids.length)];
+            if (!isAnswered(answered, id) && pickedSet.add(id)) {
+                picked.add(id);
+            }
+        }
+        if (picked.size() == amount) {
+            return picked;
+        }
+        
+        // 남은 후보를 모아 부분 Fisher-Yates 셔플로 나머지를 뽑음
+        List<Long> remaining = new ArrayList<>();
+        for (long id : ids) {
+            if (!isAnswered(answered, id) && !pickedSet.contains(id)) {
+                remaining.add(id);
+            }
+        }
+        int needed = Math.min(amount - picked.size(), remaining.size());
+        for (int i = 0; i < needed; i++) {
+            int j = i + random.nextInt(remaining.size() - i);
+            Long chosen = remaining.get(j);
+            remaining.set(j, remaining.get(i));
+            picked.add(chosen);
+        }
+        return picked;
+    }
+    
+    private Map<String, long[]> currentIds() {
+        if (dirty) {
+            synchronized (catalogLock) {
+                if (dirty) {
+                    idsByFilter = buildIds(catalog);
+                    dirty = false;
+                }
+            }
+        }
+        return idsByFilter;
+    }
+    
+    /**
+     * 등록/삭제를 현재 목록에 반영하고, 재구성 중이면 새 목록에도 반영되도록 기록합니다.
+     */
+    private void apply(Consumer<Map<Long, QuestionKey>> change) {
+        synchronized (catalogLock) {
+            change.accept(catalog);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            dirty = true;
+        }
+    }
+    
+    /**
+     * 조건 조합(각 조건 사용/미사용 8가지)별 질문 ID 배열을 만듭니다.
+     */
+    private static Map<String, long[]> buildIds(Map<Long, QuestionKey> catalog) {
+        Map<String, List<Long>> lists = new HashMap<>();
+        catalog.forEach((id, filter) -> {
+            for (int mask = 0; mask < 8; mask++) {
+                String key = key(
+                    (mask & 1) != 0 ? filter.getCompany() : null,
+                    (mask & 2) != 0 ? filter.getCategory() : null,
+                    (mask & 4) != 0 ? filter.getQuestionAt() : null);
+                lists.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+            }
+        });
+        
+        Map<String, long[]> built = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, list) -> built.put(key, list.stream().mapToLong(Long::longValue).toArray()));
+        return built;
+    }
+    
+    private long[] loadAnswered(String userId) {
+        return answerRepository.findAnsweredQuestionIds(userId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+    
+    private static long[] withAnswered(long[] answered, long questionId) {
+        int index = Arrays.binarySearch(answered, questionId);
+        if (index >= 0) {
+            return answered;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[answered.length + 1];
+        System.arraycopy(answered, 0, updated, 0, insertAt);
+        updated[insertAt] = questionId;
+        System.arraycopy(answered, insertAt, updated, insertAt + 1, answered.length - insertAt);
+        return updated;
+    }
+    
+    private static boolean isAnswered(long[] answered, long questionId) {
+        return Arrays.binarySearch(answered, questionId) >= 0;
+    }
+    
+    private static String key(String company, String category, String questionAt) {
+        return Objects.toString(company, ANY) + '\u0001'
+                + Objects.toString(category, ANY) + '\u0001'
+                + Objects.toString(questionAt, ANY);
+    }
+}
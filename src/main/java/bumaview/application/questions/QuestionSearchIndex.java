@@ -0,0 +1,329 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 질문 내용에 대한 인메모리 문자 bigram 역색인
+ *
+ * 한국어는 띄어쓰기 단위가 길고 조사가 붙으므로 단어 대신 문자 bigram으로 색인합니다.
+ * 검색어 단어를 구성하는 bigram을 모두 포함하는지로 부분 일치를 근사합니다.
+ * 검색어의 모든 bigram을 포함하는 질문만 후보로 삼고(AND), BM25로 순위를 매기며
+ * 회사/카테고리/년도 조건도 색인에 함께 저장된 값으로 걸러 DB를 조회하지 않습니다.
+ * 질문 등록/삭제 이벤트를 커밋 이후에 받아 색인을 갱신합니다.
+ * 전체 재색인은 잠금 밖에서 새 색인을 만든 뒤 짧은 쓰기 잠금 안에서 교체하므로 그동안에도 검색이 막히지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private final QuestionExportRepository questionExportRepository;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 쓰기 잠금 안에서만 교체/수정
+    private Index index = new Index();
+    // 재색인 중에 들어온 등록/삭제 (교체 직전에 새 색인에 다시 적용)
+    private List<Consumer<Index>> pendingChanges;
+    
+    private volatile boolean ready;
+    
+    /**
+     * 애플리케이션 시작 시 전체 질문으로 색인을 만듭니다.
+     * 완료 전까지 검색은 {@link #isReady()}가 false이므로 DB 검색으로 대체됩니다.
+     * 질문은 필요한 컬럼만 커서로 나누어 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        Index rebuilt = new Index();
+        try {
+            questionExportRepository.forEachQuestion(null, null, null,
+                (id, content, company, category, questionAt) -> rebuilt.add(id, content, company, category, questionAt));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsCreated(QuestionsCreatedEvent event) {
+        List<Question> created = event.getQuestions();
+        apply(target -> created.forEach(target::add));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsDeleted(QuestionsDeletedEvent event) {
+        List<Long> deletedIds = event.getQuestionIds();
+        apply(target -> deletedIds.forEach(target::remove));
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionsImported(QuestionsImportedEvent event) {
+        // 대량 등록은 질문 목록이 이벤트에 없으므로 전체를 다시 색인
+        load();
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 검색어와 조건에 맞는 질문 ID를 BM25 점수 순으로 반환합니다.
+     *
+     * @param query 검색어
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @return 점수 내림차순 질문 ID 목록 (점수가 같으면 최신 ID 우선)
+     */
+    public List<Long> search(String query, String company, String category, String questionAt) {
+        Set<String> queryGrams = new LinkedHashSet<>(tokenize(query));
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            Map<String, Map<Long, Integer>> postings = index.postings;
+            Map<Long, IndexedQuestion> questions = index.questions;
+            long totalLength = index.totalLength;
+            
+            // 가장 희소한 bigram의 목록부터 순회해 후보 수를 줄임
+            List<Map<Long, Integer>> gramPostings = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                gramPostings.add(posting);
+            }
+            gramPostings.sort(Comparator.comparingInt(Map::size));
+            
+            int documentCount = questions.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+            double[] idf = new double[gramPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = gramPostings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+            
+            List<ScoredQuestion> results = new ArrayList<>();
+            candidates:
+            for (Long id : gramPostings.get(0).keySet()) {
+                IndexedQuestion question = questions.get(id);
+                if (!question.matches(company, category, questionAt)) {
+                    continue;
+                }
+                
+                double lengthNorm = K1 * (1 - B + B * question.length / averageLength);
+                double score = 0;
+                for (int i = 0; i < gramPostings.size(); i++) {
+                    Integer tf = gramPostings.get(i).get(id);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                results.add(new ScoredQuestion(id, score));
+            }
+            
+            results.sort(Comparator.comparingDouble((ScoredQuestion scored) -> scored.score).reversed()
+                    .thenComparing(scored -> scored.id, Comparator.reverseOrder()));
+            return results.stream().map(scored -> scored.id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 색인으로 처리할 수 있는 검색어인지 확인합니다.
+     * 한 글자 단어는 bigram이 없어 부분 일치를 보장할 수 없으므로 DB 검색으로 처리해야 합니다.
+     */
+    public static boolean isSearchable(String query) {
+        List<String> words = words(query);
+        return !words.isEmpty() && words.stream().allMatch(word -> word.length() >= 2);
+    }
+    
+    /**
+     * 텍스트를 정규화한 뒤 단어별 문자 bigram으로 나눕니다. (한 글자 단어는 제외)
+     */
+    static List<String> tokenize(String text) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length() - 1; i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+    
+    /**
+     * NFKC 정규화와 소문자 변환 후 문자/숫자가 아닌 문자로 단어를 나눕니다.
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+    
+    /**
+     * 현재 색인에 변경을 적용하고, 재색인 중이면 새 색인에도 적용되도록 기록합니다.
+     */
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * bigram 역색인과 문서 길이 통계
+     */
+    private static class Index {
+        
+        // bigram -> (질문 ID -> 출현 횟수)
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, IndexedQuestion> questions = new HashMap<>();
+        private long totalLength;
+        
+        private void add(Question question) {
+            if (question.getId() != null) {
+                add(question.getId(), question.getContent(),
+                    question.getCompany(), question.getCategory(), question.getQuestionAt());
+            }
+        }
+        
+        private void add(long id, String content, String company, String category, String questionAt) {
+            remove(id);
+            
+            List<String> grams = tokenize(content);
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String gram : grams) {
+                frequencies.merge(gram, 1, Integer::sum);
+            }
+            frequencies.forEach((gram, tf) -> postings.computeIfAbsent(gram, key -> new HashMap<>()).put(id, tf));
+            
+            questions.put(id, new IndexedQuestion(
+                    company, category, questionAt, grams.size(), frequencies.keySet().toArray(new String[0])));
+            totalLength += grams.size();
+        }
+        
+        private void remove(Long id) {
+            IndexedQuestion removed = questions.remove(id);
+            if (removed == null) {
+                return;
+            }
+            for (String gram : removed.grams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            totalLength -= removed.length;
+        }
+    }
+    
+    /**
+     * 색인된 질문의 필터 값과 길이
+     */
+    private static class IndexedQuestion {
+        
+        private final String company;
+        private final String category;
+        private final String questionAt;
+        private final int length;
+        private final String[] grams;
+        
+        private IndexedQuestion(String company, String category, String questionAt, int length, String[] grams) {
+            this.company = company;
+            this.category = category;
+            this.questionAt = questionAt;
+            this.length = length;
+            this.grams = grams;
+        }
+        
+        private boolean matches(String company, String category, String questionAt) {
+            return (company == null || company.equals(this.company))
+                    && (category == null || category.equals(this.category))
+                    && (questionAt == null || questionAt.equals(this.questionAt));
+        }
+    }
+    
+    private static class ScoredQuestion {
+        
+        private final Long id;
+        private final double score;
+        
+        private ScoredQuestion(Long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
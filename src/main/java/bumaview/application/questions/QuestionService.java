@@ -1,39 +1,97 @@
 package bumaview.application.questions;
 
+import bumaview.application.answers.AnswerService;
+import bumaview.common.pagination.CursorCodec;
+import bumaview.common.pagination.CursorPage;
+import bumaview.domain.answers.AnswerSort;
 import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.exception.DuplicateQuestionException;
+import bumaview.domain.questions.exception.QuestionFilterRequiredException;
+import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.infrastructure.auth.UserRepository;
 import bumaview.infrastructure.questions.QuestionRepository;
-import bumaview.presentation.questions.dto.QuestionUploadResult;
-import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
+import bumaview.infrastructure.scores.ScoreRepository;
+import bumaview.presentation.answers.dto.AnswerResponse;
+import bumaview.presentation.questions.dto.QuestionDetailResponse;
+import bumaview.presentation.questions.dto.QuestionFacetsResponse;
+import bumaview.presentation.questions.dto.QuestionResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuestionService {
     
+    // 일괄 삭제 시 한 번의 DELETE에 넣는 질문 ID 수
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
     private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final ScoreRepository scoreRepository;
+    private final UserRepository userRepository;
+    private final AnswerService answerService;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final QuestionSampler questionSampler;
+    private final QuestionListCache questionListCache;
+    private final QuestionFacetCounter questionFacetCounter;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
-     * 조건에 따라 질문을 조회합니다.
+     * 조건에 따라 질문을 한 페이지 조회합니다.
+     * 검색어가 없으면 최신순, 있으면 검색 점수순으로 정렬됩니다.
+     * 검색어가 없는 목록은 조건 조합별 캐시에서 먼저 찾습니다.
      * 
      * @param company 회사명 (선택)
      * @param category 카테고리 (선택)
      * @param questionAt 질문 년도 (선택)
      * @param query 질문 내용 검색어 (선택)
-     * @return 조건에 맞는 질문 목록
+     * @param after 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 조건에 맞는 질문 페이지
      */
-    public List<Question> getQuestions(String company, String category, String questionAt, String query) {
-        return questionRepository.findQuestions(company, category, questionAt, query);
+    public CursorPage<QuestionResponse> getQuestions(String company, String category, String questionAt, String query,
+                                                     String after, int limit) {
+        CursorPage.validateLimit(limit);
+        
+        // 검색어는 역색인으로 처리하고, 색인이 준비되지 않았거나 처리할 수 없는 검색어만 DB로 조회
+        if (query != null && questionSearchIndex.isReady() && QuestionSearchIndex.isSearchable(query)) {
+            List<Long> ids = questionSearchIndex.search(query, company, category, questionAt);
+            
+            // 점수순 결과는 메모리에 있으므로 위치로 페이지를 나눔
+            int offset = Math.min(CursorCodec.decodeOffset(after), ids.size());
+            int end = Math.min(offset + limit, ids.size());
+            String nextCursor = end < ids.size() ? CursorCodec.encodeOffset(end) : null;
+            return new CursorPage<>(findAllInOrder(ids.subList(offset, end)), nextCursor).map(QuestionResponse::new);
+        }
+        
+        Long afterId = CursorCodec.decodeId(after);
+        if (query == null) {
+            return questionListCache.get(company, category, questionAt, afterId, limit,
+                () -> findQuestionPage(company, category, questionAt, null, afterId, limit));
+        }
+        return findQuestionPage(company, category, questionAt, query, afterId, limit);
+    }
+    
+    private CursorPage<QuestionResponse> findQuestionPage(String company, String category, String questionAt, String query,
+                                                          Long afterId, int limit) {
+        List<Question> questions = questionRepository.findQuestions(
+            company, category, questionAt, query, afterId, Limit.of(limit + 1));
+        return CursorPage.of(questions, limit, question -> CursorCodec.encodeId(question.getId()))
+                .map(QuestionResponse::new);
     }
     
     /**
@@ -44,23 +102,51 @@ public class QuestionService {
      * @param category 카테고리
      * @param questionAt 질문 년도
      * @return 등록된 질문
+     * @throws DuplicateQuestionException 같은 질문이 이미 등록된 경우
      */
     @Transactional
     public Question createQuestion(String content, String company, String category, String questionAt) {
         Question question = new Question(content, company, category, questionAt);
-        return questionRepository.save(question);
+        if (questionRepository.existsByFingerprint(question.getFingerprint())) {
+            throw new DuplicateQuestionException();
+        }
+        
+        Question saved;
+        try {
+            saved = questionRepository.saveAndFlush(question);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 같은 질문이 동시에 등록된 경우
+            throw new DuplicateQuestionException();
+        }
+        eventPublisher.publishEvent(new QuestionsCreatedEvent(List.of(saved)));
+        return saved;
     }
     
     /**
-     * ID로 질문을 조회합니다 (답변 목록 포함).
+     * ID로 질문을 조회합니다 (답변 첫 페이지 포함).
+     * 답변은 평균 점수순으로 한 페이지만 포함되며, 나머지는 답변 목록 API로 이어서 조회합니다.
      * 
      * @param id 조회할 질문 ID
-     * @return 질문 정보 (답변 목록 포함)
+     * @return 질문 정보 (답변 첫 페이지 포함)
      * @throws IllegalArgumentException 존재하지 않는 질문 ID인 경우
      */
-    public Question getQuestionById(Long id) {
-        return questionRepository.findByIdWithAnswers(id)
+    public QuestionDetailResponse getQuestionById(Long id) {
+        Question question = questionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다. ID: " + id));
+        
+        CursorPage<AnswerResponse> firstPage = answerService
+                .getQuestionAnswers(id, AnswerSort.SCORE, null, CursorPage.DEFAULT_LIMIT)
+                .map(AnswerResponse::new);
+        return new QuestionDetailResponse(question, firstPage);
+    }
+    
+    /**
+     * 회사/카테고리/년도별 질문 수를 조회합니다.
+     *
+     * @return 필터 항목별 질문 수
+     */
+    public QuestionFacetsResponse getQuestionFacets() {
+        return questionFacetCounter.getFacets();
     }
     
     /**
@@ -77,185 +163,81 @@ public class QuestionService {
         if (amount <= 0) {
             throw new IllegalArgumentException("조회할 질문 수는 1 이상이어야 합니다.");
         }
-        return questionRepository.findRandomQuestions(company, category, questionAt, userId, amount);
+        
+        // 샘플러가 준비되지 않은 시작 직후에만 DB에서 무작위 정렬
+        if (!questionSampler.isReady()) {
+            return questionRepository.findRandomQuestions(company, category, questionAt, userId, amount);
+        }
+        List<Long> ids = questionSampler.sample(company, category, questionAt, userId, amount);
+        return findAllInOrder(ids);
     }
     
     /**
-     * CSV 파일로 질문을 일괄 등록합니다.
+     * 질문을 삭제합니다 (답변과 평가 포함).
      * 
-     * @param file CSV 파일 (content, category, company, questionAt 순서)
-     * @return 업로드 결과
+     * @param id 삭제할 질문 ID
+     * @throws IllegalArgumentException 존재하지 않는 질문 ID인 경우
      */
     @Transactional
-    public QuestionUploadResult uploadQuestionsFromCsv(MultipartFile file) {
-        List<String> errors = new ArrayList<>();
-        int totalCount = 0;
-        int successCount = 0;
-        int failureCount = 0;
-        
-        try (CSVReader csvReader = new CSVReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-            List<String[]> records = csvReader.readAll();
-            
-            if (records.isEmpty()) {
-                return new QuestionUploadResult(0, 0, 0, List.of("빈 파일입니다."));
-            }
-            
-            // 헤더를 제외한 데이터 행 수
-            totalCount = records.size() - 1;
-            
-            // 배치 처리를 위한 리스트
-            List<Question> questionsToSave = new ArrayList<>();
-            int batchSize = 100; // 100개씩 배치 처리
-            
-            // 1부터 시작 (0번 인덱스는 헤더이므로 건너뛰기)
-            for (int i = 1; i < records.size(); i++) {
-                String[] record = records.get(i);
-                int rowNumber = i + 1; // CSV 실제 행 번호
-                
-                try {
-                    if (record.length < 4) {
-                        errors.add("행 " + rowNumber + ": 필수 컬럼이 부족합니다. (content, category, company, questionAt 필요)");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    String content = record[0].trim();
-                    String category = record[1].trim();
-                    String company = record[2].trim();
-                    String questionAt = record[3].trim();
-                    
-                    // 유효성 검증
-                    if (content.isEmpty()) {
-                        errors.add("행 " + rowNumber + ": 질문 내용은 필수입니다.");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    if (content.length() > 1000) {
-                        errors.add("행 " + rowNumber + ": 질문 내용은 1000자를 초과할 수 없습니다. (현재: " + content.length() + "자)");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    if (company.isEmpty()) {
-                        errors.add("행 " + rowNumber + ": 회사명은 필수입니다.");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    if (company.length() > 100) {
-                        errors.add("행 " + rowNumber + ": 회사명은 100자를 초과할 수 없습니다. (현재: " + company.length() + "자)");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    if (category.isEmpty()) {
-                        errors.add("행 " + rowNumber + ": 카테고리는 필수입니다.");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    if (category.length() > 50) {
-                        errors.add("행 " + rowNumber + ": 카테고리는 50자를 초과할 수 없습니다. (현재: " + category.length() + "자)");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    if (questionAt.isEmpty() || questionAt.length() != 4) {
-                        errors.add("행 " + rowNumber + ": 질문 년도는 4자리여야 합니다.");
-                        failureCount++;
-                        continue;
-                    }
-                    
-                    // 질문 생성 (아직 저장하지 않음)
-                    Question question = new Question(content, company, category, questionAt);
-                    questionsToSave.add(question);
-                    successCount++;
-                    
-                    // 배치 크기에 도달하면 저장
-                    if (questionsToSave.size() >= batchSize) {
-                        try {
-                            questionRepository.saveAll(questionsToSave);
-                            questionsToSave.clear();
-                        } catch (Exception e) {
-                            // 배치 저장 실패 시 개별 저장으로 재시도
-                            int batchFailedCount = handleBatchFailure(questionsToSave, errors, i - questionsToSave.size() + 1);
-                            failureCount += batchFailedCount;
-                            successCount -= batchFailedCount;
-                            questionsToSave.clear();
-                        }
-                    }
-                    
-                } catch (Exception e) {
-                    errors.add("행 " + rowNumber + ": " + e.getMessage());
-                    failureCount++;
-                    successCount--; // 실패했으므로 성공 카운트에서 제외
-                }
-            }
-            
-            // 남은 질문들 저장
-            if (!questionsToSave.isEmpty()) {
-                try {
-                    questionRepository.saveAll(questionsToSave);
-                } catch (Exception e) {
-                    // 배치 저장 실패 시 개별 저장으로 재시도
-                    int batchFailedCount = handleBatchFailure(questionsToSave, errors, records.size() - questionsToSave.size() + 1);
-                    failureCount += batchFailedCount;
-                    successCount -= batchFailedCount;
-                }
-            }
-            
-        } catch (IOException | CsvException e) {
-            errors.add("CSV 파일 읽기 오류: " + e.getMessage());
-            return new QuestionUploadResult(0, 0, 0, errors);
-        }
-        
-        return new QuestionUploadResult(totalCount, successCount, failureCount, errors);
+    public void deleteQuestion(Long id) {
+        Question question = questionRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다. ID: " + id));
+        deleteCascade(List.of(id));
+        eventPublisher.publishEvent(new QuestionsDeletedEvent(List.of(QuestionKey.of(question))));
     }
-
+    
     /**
-     * 배치 저장 실패 시 개별 저장으로 재시도합니다.
-     * 
-     * @param questions 저장할 질문 목록
-     * @param errors 에러 목록
-     * @param startRowNumber 시작 행 번호
-     * @return 실제 실패한 질문 수
+     * 조건에 맞는 질문을 한 트랜잭션에서 일괄 삭제합니다 (답변과 평가 포함).
+     *
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @return 삭제된 질문 수
+     * @throws QuestionFilterRequiredException 조건이 하나도 없는 경우
      */
-    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
-    private int handleBatchFailure(List<Question> questions, List<String> errors, int startRowNumber) {
-        int failedCount = 0;
-        for (int i = 0; i < questions.size(); i++) {
-            try {
-                saveSingleQuestion(questions.get(i));
-            } catch (Exception e) {
-                errors.add("행 " + (startRowNumber + i) + ": " + e.getMessage());
-                failedCount++;
-            }
+    @Transactional
+    public int deleteQuestions(String company, String category, String questionAt) {
+        if (company == null && category == null && questionAt == null) {
+            throw new QuestionFilterRequiredException();
+        }
+        
+        List<QuestionKey> questions = questionRepository.findKeysByFilters(company, category, questionAt);
+        List<Long> ids = questions.stream().map(QuestionKey::getId).toList();
+        // IN 목록의 바인드 변수 수를 제한하기 위해 나눠서 삭제
+        for (int start = 0; start < ids.size(); start += DELETE_CHUNK_SIZE) {
+            deleteCascade(ids.subList(start, Math.min(start + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        
+        if (!questions.isEmpty()) {
+            eventPublisher.publishEvent(new QuestionsDeletedEvent(questions));
         }
-        return failedCount;
+        return questions.size();
     }
     
     /**
-     * 단일 질문을 새로운 트랜잭션에서 저장합니다.
-     * 
-     * @param question 저장할 질문
+     * 질문들의 평가, 답변, 질문 순으로 DELETE 문을 실행합니다.
+     * 사용자 통계는 답변의 집계 컬럼과 평가로 계산하므로 삭제 전에 갱신합니다.
      */
-    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
-    private void saveSingleQuestion(Question question) {
-        questionRepository.save(question);
+    private void deleteCascade(List<Long> questionIds) {
+        userRepository.subtractEvaluatedCountByQuestionIds(questionIds);
+        userRepository.subtractAnswerStatsByQuestionIds(questionIds);
+        scoreRepository.deleteAllByQuestionIds(questionIds);
+        answerRepository.deleteAllByQuestionIds(questionIds);
+        questionRepository.deleteAllByIdInBatch(questionIds);
     }
     
     /**
-     * 질문을 삭제합니다.
-     * 
-     * @param id 삭제할 질문 ID
-     * @throws IllegalArgumentException 존재하지 않는 질문 ID인 경우
+     * ID 목록 순서대로 질문을 조회합니다.
      */
-    @Transactional
-    public void deleteQuestion(Long id) {
-        if (!questionRepository.existsById(id)) {
-            throw new IllegalArgumentException("존재하지 않는 질문입니다. ID: " + id);
+    private List<Question> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
-        questionRepository.deleteById(id);
+        Map<Long, Question> questionsById = questionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+        return ids.stream()
+                .map(questionsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
\ No newline at end of file
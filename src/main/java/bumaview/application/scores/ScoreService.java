@@ -11,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 
 @Service
 @RequiredArgsConstructor
@@ -44,6 +46,23 @@ public class ScoreService {
             throw new SelfEvaluationNotAllowedException();
         }
         
+        // 같은 평가자가 다시 평가하면 기존 점수를 덮어쓰므로 통계도 차이만 반영
+        // 기존 평가 행을 잠근 뒤 차이를 계산해 동시 재평가가 같은 이전 점수를 기준으로 계산하지 않도록 함
+        String authorId = answer.getUser().getId();
+        Optional<Score> existing = scoreRepository.findForUpdate(answerId, userId);
+        if (existing.isPresent()) {
+            Score score = existing.get();
+            int delta = scoreValue - score.getScore();
+            userRepository.addReceivedScore(authorId, delta, 0);
+            answerRepository.addScore(answerId, delta, 0);
+            score.update(content, scoreValue);
+            return score;
+        }
+        
+        userRepository.addReceivedScore(authorId, scoreValue, 1);
+        userRepository.addEvaluatedCount(userId, 1);
+        answerRepository.addScore(answerId, scoreValue, 1);
+        
         Score score = new Score(answer, user, content, scoreValue);
         return scoreRepository.save(score);
     }
@@ -0,0 +1,154 @@
+package bumaview.application.sessions;
+
+import bumaview.common.util.HashedTimingWheel;
+import bumaview.domain.sessions.InterviewSessionStatus;
+import bumaview.presentation.questions.dto.QuestionResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리에 보관되는 모의 면접 세션
+ *
+ * 질문 목록은 시작 시 한 번 뽑아 고정하고, 질문마다 제한 시간을 둡니다.
+ * 상태 변경과 조회는 세션 객체를 잠근 상태에서만 수행합니다. (InterviewSessionService 참고)
+ */
+@Getter
+public class InterviewSession {
+    
+    private final String id;
+    private final String userId;
+    private final List<QuestionResponse> questions;
+    private final Duration timeLimit;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    
+    private InterviewSessionStatus status = InterviewSessionStatus.IN_PROGRESS;
+    private int currentIndex;
+    private Instant currentDeadline;
+    private int skippedCount;
+    private final List<SessionAnswer> answers = new ArrayList<>();
+    private List<Long> savedAnswerIds = List.of();
+    
+    // 소요 시간 계산용 현재 질문 시작 시각 (System.nanoTime)
+    @Getter(AccessLevel.NONE)
+    private long currentStartedNanos;
+    @Getter(AccessLevel.NONE)
+    private HashedTimingWheel.Timeout deadlineTimeout;
+    
+    InterviewSession(String id, String userId, List<QuestionResponse> questions, Duration timeLimit) {
+        this.id = id;
+        this.userId = userId;
+        this.questions = questions;
+        this.timeLimit = timeLimit;
+    }
+    
+    /**
+     * 답변할 차례인 질문 (남은 질문이 없으면 null)
+     */
+    public QuestionResponse getCurrentQuestion() {
+        return currentIndex < questions.size() ? questions.get(currentIndex) : null;
+    }
+    
+    public boolean isInProgress() {
+        return status == InterviewSessionStatus.IN_PROGRESS;
+    }
+    
+    boolean hasCurrentQuestion() {
+        return currentIndex < questions.size();
+    }
+    
+    /**
+     * 현재 질문의 제한 시간을 시작합니다.
+     */
+    void beginQuestion(long nowNanos, HashedTimingWheel.Timeout deadlineTimeout) {
+        this.currentStartedNanos = nowNanos;
+        this.currentDeadline = Instant.now().plus(timeLimit);
+        this.deadlineTimeout = deadlineTimeout;
+    }
+    
+    boolean isOverdue(long nowNanos) {
+        return nowNanos - currentStartedNanos > timeLimit.toNanos();
+    }
+    
+    /**
+     * 현재 질문에 답하고 다음 질문으로 넘어갑니다. 소요 시간은 서버 시각으로 계산합니다. (초 단위 올림, 최소 1초)
+     */
+    void answer(String content, long nowNanos) {
+        long elapsedNanos = Math.max(0, nowNanos - currentStartedNanos);
+        int seconds = (int) Math.max(1, (elapsedNanos + 999_999_999L) / 1_000_000_000L);
+        answers.add(new SessionAnswer(getCurrentQuestion().getId(), content, seconds));
+        advance();
+    }
+    
+    /**
+     * 답하지 않은 현재 질문을 건너뛰고 다음 질문으로 넘어갑니다.
+     */
+    void skip() {
+        skippedCount++;
+        advance();
+    }
+    
+    /**
+     * 남은 질문을 모두 건너뜁니다. (조기 종료)
+     */
+    void skipRemaining() {
+        while (hasCurrentQuestion()) {
+            skip();
+        }
+    }
+    
+    /**
+     * 더 이상 답변을 받지 않도록 저장 중 상태로 바꾸고 저장할 답변을 복사해 반환합니다.
+     */
+    List<SessionAnswer> beginFinishing() {
+        cancelDeadline();
+        this.status = InterviewSessionStatus.FINISHING;
+        return List.copyOf(answers);
+    }
+    
+    void finish(List<Long> savedAnswerIds) {
+        cancelDeadline();
+        this.savedAnswerIds = savedAnswerIds;
+        this.status = InterviewSessionStatus.FINISHED;
+    }
+    
+    void fail() {
+        cancelDeadline();
+        this.status = InterviewSessionStatus.FAILED;
+    }
+    
+    void cancelDeadline() {
+        if (deadlineTimeout != null) {
+            deadlineTimeout.cancel();
+            deadlineTimeout = null;
+        }
+    }
+    
+    private void advance() {
+        cancelDeadline();
+        currentIndex++;
+        currentDeadline = null;
+    }
+    
+    /**
+     * 세션 종료 시 저장할 답변
+     */
+    @Getter
+    public static class SessionAnswer {
+        
+        private final Long questionId;
+        private final String content;
+        private final int time;
+        
+        private SessionAnswer(Long questionId, String content, int time) {
+            this.questionId = questionId;
+            this.content = content;
+            this.time = time;
+        }
+    }
+}
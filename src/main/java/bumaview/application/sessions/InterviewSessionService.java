@@ -0,0 +1,333 @@
+package bumaview.application.sessions;
+
+import bumaview.application.answers.AnswerService;
+import bumaview.application.questions.QuestionService;
+import bumaview.common.util.HashedTimingWheel;
+import bumaview.domain.answers.Answer;
+import bumaview.domain.sessions.exception.AnswerDeadlineExceededException;
+import bumaview.domain.sessions.exception.SessionClosedException;
+import bumaview.domain.sessions.exception.SessionNotFoundException;
+import bumaview.domain.sessions.exception.SessionQuestionMismatchException;
+import bumaview.presentation.answers.dto.AnswerCreateRequest;
+import bumaview.presentation.questions.dto.QuestionResponse;
+import bumaview.presentation.sessions.dto.InterviewSessionResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버에서 진행하는 모의 면접 세션 서비스
+ *
+ * 시작할 때 질문을 한 번 뽑아 세션에 고정하고, 세션은 크기와 유휴 시간이 제한된 메모리 캐시에 보관합니다.
+ * 질문별 제한 시간은 세션마다 스케줄링 작업을 두지 않고 해시 타이밍 휠 하나로 관리하며,
+ * 시간이 지나면 그 질문을 건너뛰고 다음 질문의 제한 시간을 시작합니다.
+ * 답변은 세션이 끝날 때 한 트랜잭션에서 일괄 저장합니다.
+ * 저장은 세션 잠금을 놓은 뒤 수행하므로 저장 중에도 타이머 스레드와 다른 요청이 세션을 기다리지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class InterviewSessionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(InterviewSessionService.class);
+    
+    private final QuestionService questionService;
+    private final AnswerService answerService;
+    
+    @Value("${sessions.maximum-size:50000}")
+    private long maximumSize;
+    
+    @Value("${sessions.expire-after-access:2h}")
+    private Duration expireAfterAccess;
+    
+    @Value("${sessions.max-questions:20}")
+    private int maxQuestions;
+    
+    @Value("${sessions.time-limit.default:3m}")
+    private Duration defaultTimeLimit;
+    
+    @Value("${sessions.time-limit.max:30m}")
+    private Duration maxTimeLimit;
+    
+    @Value("${sessions.timer.tick:100ms}")
+    private Duration timerTick;
+    
+    @Value("${sessions.timer.wheel-size:512}")
+    private int timerWheelSize;
+    
+    @Value("${sessions.flush-threads:2}")
+    private int flushThreads;
+    
+    @Value("${sessions.shutdown-timeout:30s}")
+    private Duration shutdownTimeout;
+    
+    private Cache<String, InterviewSession> sessions;
+    private HashedTimingWheel timer;
+    // 타이머 스레드가 DB 저장으로 막히지 않도록 시간 초과/밀려남/서버 종료로 끝난 세션은 별도 스레드에서 저장
+    private ExecutorService flushExecutor;
+    
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        flushExecutor = Executors.newFixedThreadPool(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "session-flush-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer = new HashedTimingWheel("session-timer", timerTick, timerWheelSize);
+        timer.start();
+        sessions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .removalListener((String id, InterviewSession session, RemovalCause cause) -> {
+                    // 진행 중에 밀려난 세션은 그때까지의 답변을 저장하고 종료
+                    if (session != null && cause.wasEvicted() && !flushExecutor.isShutdown()) {
+                        flushExecutor.execute(() -> finishQuietly(session));
+                    }
+                })
+                .build();
+    }
+    
+    /**
+     * 진행 중인 세션을 그때까지의 답변으로 저장하고, 저장이 끝날 때까지 shutdownTimeout만큼 기다립니다.
+     * 대기 시간 안에 끝나지 않은 세션의 답변은 저장되지 않습니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flushExecutor.isShutdown()) {
+            return;
+        }
+        timer.stop();
+        // 진행 여부는 finishQuietly가 세션을 잠근 뒤 확인
+        sessions.asMap().values().forEach(session -> flushExecutor.execute(() -> finishQuietly(session)));
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("종료 대기 시간 안에 면접 세션 답변을 모두 저장하지 못했습니다. 남은 작업 수={}",
+                        flushExecutor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            flushExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 조건에 맞는 질문을 뽑아 세션을 시작하고 첫 질문의 제한 시간을 시작합니다.
+     *
+     * @param userId 사용자 ID
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @param amount 질문 수
+     * @param timeLimitSeconds 질문별 제한 시간(초) (선택, 없으면 기본값)
+     * @return 시작된 세션
+     * @throws IllegalArgumentException 질문 수나 제한 시간이 범위를 벗어났거나 조건에 맞는 질문이 없는 경우
+     */
+    public InterviewSessionResponse start(String userId, String company, String category, String questionAt,
+                                          int amount, Integer timeLimitSeconds) {
+        if (amount < 1 || amount > maxQuestions) {
+            throw new IllegalArgumentException("질문 수는 1 이상 " + maxQuestions + " 이하여야 합니다.");
+        }
+        Duration timeLimit = timeLimitSeconds == null ? defaultTimeLimit : Duration.ofSeconds(timeLimitSeconds);
+        if (timeLimit.isNegative() || timeLimit.isZero() || timeLimit.compareTo(maxTimeLimit) > 0) {
+            throw new IllegalArgumentException("제한 시간은 1초 이상 " + maxTimeLimit.toSeconds() + "초 이하여야 합니다.");
+        }
+        
+        List<QuestionResponse> questions = questionService.getRandomQuestions(company, category, questionAt, userId, amount)
+                .stream()
+                .map(QuestionResponse::new)
+                .toList();
+        if (questions.isEmpty()) {
+            throw new IllegalArgumentException("조건에 맞는 질문이 없습니다.");
+        }
+        
+        InterviewSession session = new InterviewSession(UUID.randomUUID().toString(), userId, questions, timeLimit);
+        synchronized (session) {
+            beginQuestion(session);
+            sessions.put(session.getId(), session);
+            return new InterviewSessionResponse(session);
+        }
+    }
+    
+    /**
+     * 세션 상태를 조회합니다.
+     *
+     * @throws SessionNotFoundException 세션이 없거나 다른 사용자의 세션인 경우
+     */
+    public InterviewSessionResponse getSession(String sessionId, String userId) {
+        return response(findSession(sessionId, userId));
+    }
+    
+    /**
+     * 현재 질문에 답변을 제출하고 다음 질문으로 넘어갑니다. 마지막 질문이면 세션을 종료하고 답변을 저장합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param userId 사용자 ID
+     * @param questionId 답변할 질문 ID (현재 질문이어야 함)
+     * @param content 답변 내용
+     * @return 답변 반영 후 세션
+     * @throws SessionClosedException 이미 종료된 세션인 경우
+     * @throws SessionQuestionMismatchException 현재 질문이 아닌 경우
+     * @throws AnswerDeadlineExceededException 제한 시간이 지난 경우 (해당 질문은 건너뜀)
+     */
+    public InterviewSessionResponse submitAnswer(String sessionId, String userId, Long questionId, String content) {
+        InterviewSession session = findSession(sessionId, userId);
+        List<InterviewSession.SessionAnswer> toSave;
+        boolean overdue;
+        synchronized (session) {
+            if (!session.isInProgress() || !session.hasCurrentQuestion()) {
+                throw new SessionClosedException();
+            }
+            if (!session.getCurrentQuestion().getId().equals(questionId)) {
+                throw new SessionQuestionMismatchException(questionId);
+            }
+            
+            long now = System.nanoTime();
+            // 타이머는 tick 단위로 동작하므로 만료 직후 도착한 답변은 여기서 거절
+            overdue = session.isOverdue(now);
+            if (overdue) {
+                session.skip();
+            } else {
+                session.answer(content, now);
+            }
+            toSave = advance(session);
+        }
+        
+        if (toSave != null) {
+            save(session, toSave);
+        }
+        if (overdue) {
+            throw new AnswerDeadlineExceededException();
+        }
+        return response(session);
+    }
+    
+    /**
+     * 남은 질문을 건너뛰고 세션을 종료합니다. 그때까지의 답변을 저장합니다.
+     *
+     * @return 종료된 세션 (이미 종료되었거나 저장 중인 세션이면 그대로 반환)
+     */
+    public InterviewSessionResponse finish(String sessionId, String userId) {
+        InterviewSession session = findSession(sessionId, userId);
+        finishQuietly(session);
+        return response(session);
+    }
+    
+    public long getActiveSessionCount() {
+        return sessions.estimatedSize();
+    }
+    
+    public long getPendingDeadlineCount() {
+        return timer.getPendingTimeouts();
+    }
+    
+    private InterviewSession findSession(String sessionId, String userId) {
+        InterviewSession session = sessions.getIfPresent(sessionId);
+        // 다른 사용자의 세션은 존재 여부도 드러내지 않음
+        if (session == null || !session.getUserId().equals(userId)) {
+            throw new SessionNotFoundException(sessionId);
+        }
+        return session;
+    }
+    
+    private InterviewSessionResponse response(InterviewSession session) {
+        synchronized (session) {
+            return new InterviewSessionResponse(session);
+        }
+    }
+    
+    /**
+     * 다음 질문의 제한 시간을 시작하거나, 남은 질문이 없으면 저장 중 상태로 바꿉니다. (세션을 잠근 상태에서 호출)
+     *
+     * @return 저장할 답변 (다음 질문이 있으면 null)
+     */
+    private List<InterviewSession.SessionAnswer> advance(InterviewSession session) {
+        if (session.hasCurrentQuestion()) {
+            beginQuestion(session);
+            return null;
+        }
+        return session.beginFinishing();
+    }
+    
+    private void beginQuestion(InterviewSession session) {
+        int index = session.getCurrentIndex();
+        HashedTimingWheel.Timeout timeout = timer.newTimeout(() -> onDeadline(session, index), session.getTimeLimit());
+        session.beginQuestion(System.nanoTime(), timeout);
+    }
+    
+    /**
+     * 타이머 스레드에서 호출됩니다. 아직 그 질문에 머물러 있으면 건너뛰고 다음 질문으로 넘어갑니다.
+     */
+    private void onDeadline(InterviewSession session, int index) {
+        List<InterviewSession.SessionAnswer> toSave;
+        synchronized (session) {
+            if (!session.isInProgress() || session.getCurrentIndex() != index) {
+                return;
+            }
+            session.skip();
+            toSave = advance(session);
+        }
+        if (toSave != null) {
+            flushExecutor.execute(() -> save(session, toSave));
+        }
+    }
+    
+    /**
+     * 진행 중이면 남은 질문을 건너뛰고 그때까지의 답변을 저장합니다.
+     */
+    private void finishQuietly(InterviewSession session) {
+        List<InterviewSession.SessionAnswer> toSave;
+        synchronized (session) {
+            if (!session.isInProgress()) {
+                return;
+            }
+            session.skipRemaining();
+            toSave = session.beginFinishing();
+        }
+        save(session, toSave);
+    }
+    
+    /**
+     * 답변을 한 번에 저장하고 세션을 종료합니다. 세션을 잠그지 않은 상태에서 호출하며 결과만 잠금 안에서 반영합니다.
+     */
+    private void save(InterviewSession session, List<InterviewSession.SessionAnswer> answers) {
+        if (answers.isEmpty()) {
+            synchronized (session) {
+                session.finish(List.of());
+            }
+            return;
+        }
+        
+        List<AnswerCreateRequest> requests = answers.stream()
+                .map(answer -> new AnswerCreateRequest(answer.getQuestionId(), answer.getContent(), answer.getTime()))
+                .toList();
+        try {
+            List<Long> savedIds = answerService.saveAnswers(session.getUserId(), requests).stream()
+                    .map(Answer::getId)
+                    .toList();
+            synchronized (session) {
+                session.finish(savedIds);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("면접 세션 답변 저장에 실패했습니다. sessionId={}", session.getId(), e);
+            synchronized (session) {
+                session.fail();
+            }
+        }
+    }
+}
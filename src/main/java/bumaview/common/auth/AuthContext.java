@@ -1,8 +1,10 @@
 package bumaview.common.auth;
 
 import bumaview.application.auth.JwtTokenService;
+import bumaview.application.auth.TokenRevocationStore;
 import bumaview.domain.auth.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -14,31 +16,69 @@ import jakarta.servlet.http.HttpServletRequest;
 @RequiredArgsConstructor
 public class AuthContext {
     
+    private static final String BEARER_PREFIX = "Bearer ";
+    
     private final JwtTokenService jwtTokenService;
+    private final TokenRevocationStore tokenRevocationStore;
     
     /**
-     * 현재 요청에서 사용자 ID를 추출합니다.
-     * 
-     * @return 사용자 ID
-     * @throws RuntimeException 토큰이 없거나 유효하지 않은 경우
+     * 요청의 인증 주체를 반환합니다.
+     * 이미 검증된 주체가 요청 속성에 있으면 재사용하고, 없을 때만 토큰을 검증해 저장합니다.
+     *
+     * @param request HTTP 요청
+     * @return 인증 주체 (토큰이 없으면 null)
+     * @throws JwtException 토큰이 유효하지 않거나 로그아웃으로 폐기된 경우
      */
-    public String getCurrentUserId() {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    public AuthPrincipal authenticate(HttpServletRequest request) {
+        Object cached = request.getAttribute(AuthPrincipal.REQUEST_ATTRIBUTE);
+        if (cached instanceof AuthPrincipal principal) {
+            return principal;
+        }
         
         String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new RuntimeException("토큰이 없습니다.");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
         }
         
-        String token = authHeader.substring(7);
-        Claims claims = jwtTokenService.validateToken(token);
+        Claims claims = jwtTokenService.validateToken(authHeader.substring(BEARER_PREFIX.length()));
+        if (tokenRevocationStore.isRevokedForUser(claims.getSubject(), claims.getIssuedAt())) {
+            throw new JwtException("로그아웃된 토큰입니다.");
+        }
+        
+        AuthPrincipal principal = AuthPrincipal.from(claims);
+        request.setAttribute(AuthPrincipal.REQUEST_ATTRIBUTE, principal);
+        return principal;
+    }
+    
+    /**
+     * 현재 요청의 인증 주체를 반환합니다.
+     *
+     * @return 인증 주체
+     * @throws RuntimeException 토큰이 없거나 유효하지 않은 경우
+     */
+    public AuthPrincipal getCurrentPrincipal() {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
         
-        return claims.getSubject();
+        AuthPrincipal principal = authenticate(request);
+        if (principal == null) {
+            throw new RuntimeException("토큰이 없습니다.");
+        }
+        return principal;
+    }
+    
+    /**
+     * 현재 요청에서 사용자 ID를 추출합니다.
+     *
+     * @return 사용자 ID
+     * @throws RuntimeException 토큰이 없거나 유효하지 않은 경우
+     */
+    public String getCurrentUserId() {
+        return getCurrentPrincipal().getUserId();
     }
     
     /**
      * 현재 요청에서 사용자 ID를 안전하게 추출합니다.
-     * 
+     *
      * @return 사용자 ID (토큰이 없으면 null)
      */
     public String getCurrentUserIdSafely() {
@@ -51,22 +91,11 @@ public class AuthContext {
     
     /**
      * 현재 요청에서 사용자 권한을 추출합니다.
-     * 
-     * @return 사용자 권한
+     *
+     * @return 사용자 권한 (토큰에 권한 정보가 없으면 null)
      * @throws RuntimeException 토큰이 없거나 유효하지 않은 경우
      */
     public Role getCurrentUserRole() {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new RuntimeException("토큰이 없습니다.");
-        }
-        
-        String token = authHeader.substring(7);
-        Claims claims = jwtTokenService.validateToken(token);
-        
-        String roleString = claims.get("role", String.class);
-        return Role.valueOf(roleString);
+        return getCurrentPrincipal().getRole();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package bumaview.common.auth;
+
+import bumaview.domain.auth.Role;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+/**
+ * 검증된 토큰에서 추출한 인증 주체
+ * 요청 단위로 한 번만 생성되어 요청 속성에 보관됩니다.
+ */
+@Getter
+public class AuthPrincipal {
+    
+    public static final String REQUEST_ATTRIBUTE = AuthPrincipal.class.getName();
+    
+    private final String userId;
+    private final Role role;
+    
+    public AuthPrincipal(String userId, Role role) {
+        this.userId = userId;
+        this.role = role;
+    }
+    
+    /**
+     * 검증된 Claims로부터 인증 주체를 생성합니다.
+     * 권한 정보가 없거나 알 수 없는 값이면 role은 null입니다.
+     */
+    public static AuthPrincipal from(Claims claims) {
+        return new AuthPrincipal(claims.getSubject(), parseRole(claims.get("role", String.class)));
+    }
+    
+    private static Role parseRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
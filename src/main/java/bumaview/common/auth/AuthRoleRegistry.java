@@ -0,0 +1,60 @@
+package bumaview.common.auth;
+
+import bumaview.domain.auth.Role;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핸들러 메서드별 {@link AuthRequired} 허용 권한을 보관합니다.
+ * 애플리케이션 시작 시 한 번 계산해 두고, 요청마다 어노테이션을 다시 해석하지 않습니다.
+ */
+@Component
+public class AuthRoleRegistry implements ApplicationListener<ContextRefreshedEvent> {
+    
+    private final Map<Method, Set<Role>> requiredRoles = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(handlerMethod -> {
+                    AuthRequired authRequired = AnnotatedElementUtils.findMergedAnnotation(
+                            handlerMethod.getMethod(), AuthRequired.class);
+                    if (authRequired != null) {
+                        requiredRoles.put(handlerMethod.getMethod(), toRoleSet(authRequired));
+                    }
+                }));
+    }
+    
+    /**
+     * 핸들러 메서드에 필요한 권한 집합을 반환합니다.
+     * 빈 집합이면 인증된 모든 사용자를 허용합니다.
+     *
+     * @param method 핸들러 메서드
+     * @param authRequired 메서드에 선언된 어노테이션 (시작 시 등록되지 않은 메서드용)
+     * @return 허용 권한 집합
+     */
+    public Set<Role> getRequiredRoles(Method method, AuthRequired authRequired) {
+        return requiredRoles.computeIfAbsent(method, key -> toRoleSet(authRequired));
+    }
+    
+    private static Set<Role> toRoleSet(AuthRequired authRequired) {
+        Role[] roles = authRequired.roles();
+        if (roles.length == 0) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(roles)));
+    }
+}
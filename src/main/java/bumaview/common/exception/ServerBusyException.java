@@ -0,0 +1,19 @@
+package bumaview.common.exception;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 여력이 없을 때 발생하는 예외
+ * 클라이언트에는 503과 Retry-After 헤더로 전달됩니다.
+ */
+public class ServerBusyException extends BusinessException {
+    
+    private final long retryAfterSeconds;
+    
+    public ServerBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,137 @@
+package bumaview.common.pagination;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 페이지 커서를 불투명한 문자열로 인코딩/디코딩합니다.
+ *
+ * 커서는 종류 접두사와 값으로 구성되며(예: 마지막 ID, 검색 결과 위치) Base64url로 감싸
+ * 클라이언트가 내부 값에 의존하지 않도록 합니다.
+ */
+public final class CursorCodec {
+    
+    private static final String ID_PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "offset:";
+    private static final String SCORE_PREFIX = "score:";
+    
+    private CursorCodec() {
+    }
+    
+    /**
+     * 마지막으로 조회한 ID를 커서로 인코딩합니다.
+     */
+    public static String encodeId(long id) {
+        return encode(ID_PREFIX + id);
+    }
+    
+    /**
+     * ID 커서를 디코딩합니다.
+     *
+     * @return 커서가 없으면 null
+     * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+     */
+    public static Long decodeId(String cursor) {
+        return decode(cursor, ID_PREFIX);
+    }
+    
+    /**
+     * 다음 페이지의 시작 위치를 커서로 인코딩합니다. (메모리에서 정렬된 결과용)
+     */
+    public static String encodeOffset(int offset) {
+        return encode(OFFSET_PREFIX + offset);
+    }
+    
+    /**
+     * 위치 커서를 디코딩합니다.
+     *
+     * @return 커서가 없으면 0
+     * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+     */
+    public static int decodeOffset(String cursor) {
+        Long offset = decode(cursor, OFFSET_PREFIX);
+        if (offset == null) {
+            return 0;
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return offset.intValue();
+    }
+    
+    /**
+     * 마지막으로 조회한 항목의 점수와 ID를 커서로 인코딩합니다. (점수순 정렬용)
+     */
+    public static String encodeScore(double score, long id) {
+        return encode(SCORE_PREFIX + score + ":" + id);
+    }
+    
+    /**
+     * 점수 커서를 디코딩합니다.
+     *
+     * @return 커서가 없으면 null
+     * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+     */
+    public static ScoreCursor decodeScore(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(':');
+            if (!value.startsWith(SCORE_PREFIX) || separator < SCORE_PREFIX.length()) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            double score = Double.parseDouble(value.substring(SCORE_PREFIX.length(), separator));
+            long id = Long.parseLong(value.substring(separator + 1));
+            if (!Double.isFinite(score) || id < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new ScoreCursor(score, id);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, 잘못된 Base64 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+    
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static Long decode(String cursor, String prefix) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(prefix)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            long parsed = Long.parseLong(value.substring(prefix.length()));
+            if (parsed < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return parsed;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, 잘못된 Base64 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+    
+    /**
+     * 점수순 커서 값 (마지막 항목의 점수와 ID)
+     */
+    @Getter
+    public static final class ScoreCursor {
+        
+        private final double score;
+        private final long id;
+        
+        private ScoreCursor(double score, long id) {
+            this.score = score;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package bumaview.common.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * nextCursor를 다음 요청의 after 파라미터로 넘기면 이어서 조회합니다. 마지막 페이지이면 null입니다.
+ */
+@Getter
+public class CursorPage<T> {
+    
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+    
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+    
+    /**
+     * limit + 1개까지 조회한 결과로 페이지를 만듭니다.
+     * 초과분이 있으면 잘라내고 마지막 항목의 커서를 다음 커서로 사용합니다.
+     *
+     * @param fetched limit + 1개까지 조회한 결과
+     * @param limit 페이지 크기
+     * @param cursorOf 항목의 커서를 만드는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+    
+    /**
+     * 페이지 크기를 검증합니다.
+     *
+     * @throws IllegalArgumentException 1 미만이거나 최대 크기를 넘는 경우
+     */
+    public static int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        return limit;
+    }
+    
+    /**
+     * 항목을 변환한 페이지를 반환합니다.
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,65 @@
+package bumaview.common.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 하드웨어에서 BCrypt 해시 시간을 측정해 지연 시간 예산에 맞는 최대 비용을 고릅니다.
+ */
+public class BCryptCostCalibrator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES_PER_COST = 3;
+    
+    /**
+     * 해시 1회 시간이 예산 이내인 가장 높은 비용을 반환합니다.
+     * 비용을 1 올릴 때마다 해시 시간이 약 2배가 되므로 예산을 넘는 비용에서 측정을 멈춥니다.
+     *
+     * @param budget 해시 1회에 허용하는 시간
+     * @param minStrength 최소 비용 (예산을 넘더라도 이 값 아래로 내려가지 않음)
+     * @param maxStrength 최대 비용
+     * @return 선택된 비용
+     */
+    public int calibrate(Duration budget, int minStrength, int maxStrength) {
+        long budgetNanos = budget.toNanos();
+        int selected = minStrength;
+        
+        // JIT 워밍업
+        measure(minStrength, 1);
+        
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = measure(strength, SAMPLES_PER_COST);
+            logger.info("BCrypt cost {} takes {} ms", strength, Duration.ofNanos(elapsed).toMillis());
+            if (elapsed > budgetNanos) {
+                break;
+            }
+            selected = strength;
+            // 다음 비용은 약 2배가 걸리므로 예산을 확실히 넘으면 측정하지 않음
+            if (elapsed * 2 > budgetNanos * 3 / 2) {
+                break;
+            }
+        }
+        
+        logger.info("BCrypt cost calibrated to {} for a {} ms budget", selected, budget.toMillis());
+        return selected;
+    }
+    
+    /**
+     * 주어진 비용으로 여러 번 해시해 가장 짧은 시간을 반환합니다.
+     */
+    private long measure(int strength, int samples) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
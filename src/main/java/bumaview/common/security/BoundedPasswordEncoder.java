@@ -0,0 +1,202 @@
+package bumaview.common.security;
+
+import bumaview.common.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 패스워드 해시/검증을 전용 스레드 풀에서 수행하는 PasswordEncoder
+ *
+ * BCrypt 연산이 Tomcat 요청 스레드의 CPU를 독점하지 않도록 코어 수 크기의 풀과
+ * 크기가 제한된 대기열을 사용합니다. 대기열이 가득 차면 즉시 {@link ServerBusyException}을 던집니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+    
+    // 일괄 해시 시 한 번에 스레드에 넘기는 최대 패스워드 수
+    private static final int BULK_CHUNK_SIZE = 8;
+    
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+    private volatile Counter rejectedCounter;
+    
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+    
+    /**
+     * 여러 패스워드를 해시 풀의 모든 스레드에서 병렬로 해시합니다.
+     * 작은 묶음 단위로 나누어 스레드 수만큼만 동시에 대기열에 넣으므로
+     * 일괄 작업 중에도 로그인 등 개별 요청이 묶음 사이에 처리될 수 있습니다.
+     *
+     * @param rawPasswords 해시할 패스워드 목록
+     * @return 입력 순서와 같은 순서의 해시 목록
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int size = rawPasswords.size();
+        String[] encoded = new String[size];
+        int chunkSize = Math.max(1, Math.min(BULK_CHUNK_SIZE, size / executor.getMaximumPoolSize()));
+        int inFlightLimit = Math.max(1, Math.min(executor.getMaximumPoolSize(), executor.getQueue().remainingCapacity()));
+        
+        Deque<Future<?>> inFlight = new ArrayDeque<>();
+        try {
+            for (int from = 0; from < size; from += chunkSize) {
+                if (inFlight.size() >= inFlightLimit) {
+                    await(inFlight.poll());
+                }
+                int start = from;
+                int end = Math.min(size, from + chunkSize);
+                inFlight.add(submit(() -> {
+                    for (int i = start; i < end; i++) {
+                        long begin = System.nanoTime();
+                        encoded[i] = delegate.encode(rawPasswords.get(i));
+                        Timer timer = encodeTimer;
+                        if (timer != null) {
+                            timer.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            while (!inFlight.isEmpty()) {
+                await(inFlight.poll());
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return Arrays.asList(encoded);
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .description("패스워드 해시 소요 시간")
+                .register(registry);
+        matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .description("패스워드 검증 소요 시간")
+                .register(registry);
+        rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("대기열 초과로 거부된 해시 요청 수")
+                .register(registry);
+        Gauge.builder("auth.password.hash.queue", this, BoundedPasswordEncoder::getQueueSize)
+                .description("패스워드 해시 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 연산 중인 스레드 수")
+                .register(registry);
+    }
+    
+    /**
+     * 해시 대기열에 쌓인 작업 수를 반환합니다.
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+    
+    /**
+     * 애플리케이션 종료 시 해시 스레드 풀을 정리합니다.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private <T> T execute(Callable<T> task, Timer timer) {
+        return await(submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                if (timer != null) {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }));
+    }
+    
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            Counter counter = rejectedCounter;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new ServerBusyException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+    
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("패스워드 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("패스워드 처리에 실패했습니다.", e.getCause());
+        }
+    }
+    
+    private static class HashingThreadFactory implements ThreadFactory {
+        
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
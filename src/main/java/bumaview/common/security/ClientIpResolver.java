@@ -0,0 +1,90 @@
+package bumaview.common.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청을 보낸 실제 클라이언트 IP를 구합니다.
+ *
+ * 리버스 프록시/로드 밸런서 뒤에서는 getRemoteAddr()가 프록시 주소이므로,
+ * 신뢰하는 프록시에서 온 요청에 한해 X-Forwarded-For를 오른쪽(가장 가까운 홉)부터 거슬러 올라가
+ * 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 봅니다.
+ * 신뢰하지 않는 곳에서 온 요청의 X-Forwarded-For는 위조될 수 있으므로 무시합니다.
+ * 신뢰하는 프록시(auth.trusted-proxies)는 배포 환경의 실제 프록시 주소로만 좁혀 지정해야 합니다.
+ */
+@Component
+public class ClientIpResolver {
+    
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    
+    // IP 리터럴만 허용 (호스트 이름을 DNS로 조회하지 않도록)
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+    
+    @Value("${auth.trusted-proxies:}")
+    private List<String> trustedProxies;
+    
+    private List<IpAddressMatcher> trustedMatchers;
+    
+    @PostConstruct
+    public void init() {
+        trustedMatchers = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+    
+    /**
+     * @param request HTTP 요청
+     * @return 클라이언트 IP (신뢰하는 프록시를 거치지 않았으면 연결 주소)
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!IP_LITERAL.matcher(hop).matches()) {
+                // 형식이 잘못된 홉 앞쪽은 신뢰할 수 없으므로 마지막으로 확인한 주소를 사용
+                return client;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        // 모든 홉이 신뢰하는 프록시면 가장 앞의 주소
+        return client;
+    }
+    
+    private boolean isTrustedProxy(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedMatchers) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
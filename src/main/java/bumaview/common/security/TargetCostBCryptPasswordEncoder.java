@@ -0,0 +1,48 @@
+package bumaview.common.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 목표 비용(cost)과 다른 비용으로 저장된 해시를 재해시 대상으로 판단하는 BCryptPasswordEncoder
+ *
+ * 기본 구현은 저장된 비용이 더 낮을 때만 재해시하지만, 시작 시 보정된 비용이 낮아진 경우에도
+ * 로그인 지연 시간을 맞출 수 있도록 비용이 다르기만 하면 재해시합니다.
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    
+    private final int strength;
+    
+    public TargetCostBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+    
+    public int getStrength() {
+        return strength;
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = parseCost(encodedPassword);
+        return cost > 0 && cost != strength;
+    }
+    
+    /**
+     * BCrypt 해시 문자열($2a$12$...)에서 비용을 추출합니다.
+     *
+     * @return 비용 (BCrypt 형식이 아니면 -1)
+     */
+    static int parseCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(1) != '2'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
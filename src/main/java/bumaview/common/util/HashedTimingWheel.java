@@ -0,0 +1,297 @@
+package bumaview.common.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 해시 타이밍 휠 기반 타이머
+ *
+ * 만료 시각을 tick 단위 슬롯에 해시해 두고, 작업 스레드 하나가 tick마다 현재 슬롯만 확인합니다.
+ * 등록과 취소는 O(1)이고 타이머 수와 무관하게 스레드 하나로 동작하므로
+ * 수만 개의 만료를 각각 스케줄링하는 것보다 가볍습니다.
+ * 만료 정밀도는 tick 단위이며, 만료 작업은 작업 스레드에서 실행되므로 짧게 끝나야 합니다.
+ */
+public class HashedTimingWheel {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+    
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+    
+    // 한 tick에 슬롯으로 옮기는 최대 등록 수 (등록이 몰려도 tick이 밀리지 않도록)
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread worker;
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    
+    // 다른 스레드의 등록/취소는 큐에 넣고 작업 스레드가 슬롯에 반영
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    
+    private volatile long startTime;
+    // 작업 스레드에서만 접근
+    private long tick;
+    
+    /**
+     * @param threadName 작업 스레드 이름
+     * @param tickDuration tick 간격 (만료 정밀도)
+     * @param ticksPerWheel 휠의 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    public HashedTimingWheel(String threadName, Duration tickDuration, int ticksPerWheel) {
+        if (tickDuration.toMillis() < 1) {
+            throw new IllegalArgumentException("tick 간격은 1ms 이상이어야 합니다: " + tickDuration);
+        }
+        if (ticksPerWheel < 1 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("슬롯 수는 1 이상 2^30 이하여야 합니다: " + ticksPerWheel);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        // 슬롯 위치를 나머지 대신 비트 마스크로 구하도록 2의 거듭제곱으로 맞춤
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+    }
+    
+    public void start() {
+        if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            startTime = System.nanoTime();
+            worker.start();
+        }
+    }
+    
+    /**
+     * 작업 스레드를 멈춥니다. 아직 만료되지 않은 타이머는 실행되지 않습니다.
+     */
+    public void stop() {
+        if (state.getAndSet(STATE_STOPPED) != STATE_STARTED) {
+            return;
+        }
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * delay 이후에 task를 실행하도록 등록합니다.
+     *
+     * @throws IllegalStateException 타이머가 시작되지 않았거나 멈춘 경우
+     */
+    public Timeout newTimeout(Runnable task, Duration delay) {
+        if (state.get() != STATE_STARTED) {
+            throw new IllegalStateException("타이머가 실행 중이 아닙니다.");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.incrementAndGet();
+        registrations.add(timeout);
+        return timeout;
+    }
+    
+    /**
+     * 만료 또는 취소되지 않은 타이머 수
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+    
+    private void run() {
+        while (state.get() == STATE_STARTED) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            Bucket bucket = wheel[(int) (tick & mask)];
+            processCancellations();
+            transferRegistrations();
+            bucket.expire(deadline);
+            tick++;
+        }
+    }
+    
+    /**
+     * 다음 tick 시각까지 기다린 뒤 시작 시각 기준 현재 시각을 반환합니다. (멈추면 -1)
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (state.get() != STATE_STARTED) {
+                    return -1;
+                }
+            }
+        }
+    }
+    
+    private void transferRegistrations() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = registrations.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // 이미 지난 만료 시각은 현재 슬롯에 넣어 이번 tick에 실행
+            long expireTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+    
+    private void processCancellations() {
+        Timeout timeout;
+        while ((timeout = cancellations.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+    
+    /**
+     * 등록된 타이머 핸들
+     */
+    public static final class Timeout {
+        
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        
+        private final HashedTimingWheel timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        
+        // 작업 스레드에서만 접근
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+        
+        private Timeout(HashedTimingWheel timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+        
+        /**
+         * 아직 만료되지 않았으면 취소합니다.
+         *
+         * @return 취소했으면 true, 이미 만료되었거나 취소된 경우 false
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            timer.cancellations.add(this);
+            return true;
+        }
+        
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+        
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+        
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.warn("타이머 작업 실행 중 예외가 발생했습니다.", t);
+            }
+        }
+    }
+    
+    /**
+     * 한 슬롯에 속한 타이머의 이중 연결 리스트 (작업 스레드에서만 접근)
+     */
+    private static final class Bucket {
+        
+        private Timeout head;
+        private Timeout tail;
+        
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+        
+        /**
+         * 이번 바퀴에 만료될 타이머를 실행하고, 나머지는 남은 바퀴 수를 줄입니다.
+         */
+        private void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+        
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
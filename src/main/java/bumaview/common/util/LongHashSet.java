@@ -0,0 +1,109 @@
+package bumaview.common.util;
+
+/**
+ * long 값의 개방 주소법(선형 탐사) 해시 집합
+ *
+ * 원소를 long 배열에 박싱 없이 저장하므로 원소당 약 8~16바이트만 사용합니다.
+ * (HashSet&lt;Long&gt;은 원소당 수십 바이트)
+ * 삭제는 지원하지 않으며 스레드 안전하지 않습니다.
+ */
+public class LongHashSet {
+    
+    // 0은 빈 슬롯 표시로 쓰므로 별도로 보관
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    
+    public LongHashSet() {
+        this(16);
+    }
+    
+    /**
+     * @param expectedSize 예상 원소 수 (넘으면 두 배씩 늘림)
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+    
+    /**
+     * @return 새로 추가했으면 true, 이미 있으면 false
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        
+        int index = slot(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        if (size > table.length * MAX_LOAD_FACTOR) {
+            resize();
+        }
+        return true;
+    }
+    
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int index = slot(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int index = slot(value);
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+    
+    /**
+     * murmur3 finalizer로 비트를 섞어 연속된 값도 슬롯에 고르게 퍼뜨립니다.
+     */
+    private int slot(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return (int) value & mask;
+    }
+}
@@ -0,0 +1,69 @@
+package bumaview.config;
+
+import bumaview.application.auth.JwtTokenService;
+import bumaview.application.questions.QuestionListCache;
+import bumaview.application.sessions.InterviewSessionService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 내부 캐시 및 리소스 지표를 Micrometer에 등록합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder jwtVerifiedCacheMetrics(JwtTokenService jwtTokenService) {
+        return registry -> {
+            FunctionCounter.builder("jwt.verified.cache.requests", jwtTokenService, JwtTokenService::getVerifiedCacheHitCount)
+                    .tag("result", "hit")
+                    .description("검증 토큰 캐시 적중 횟수")
+                    .register(registry);
+            FunctionCounter.builder("jwt.verified.cache.requests", jwtTokenService, JwtTokenService::getVerifiedCacheMissCount)
+                    .tag("result", "miss")
+                    .description("검증 토큰 캐시 미스 횟수")
+                    .register(registry);
+            Gauge.builder("jwt.verified.cache.size", jwtTokenService, JwtTokenService::getVerifiedCacheSize)
+                    .description("검증 토큰 캐시 항목 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder questionListCacheMetrics(QuestionListCache questionListCache) {
+        return registry -> {
+            FunctionCounter.builder("questions.list.cache.requests", questionListCache, QuestionListCache::getHitCount)
+                    .tag("result", "hit")
+                    .description("질문 목록 캐시 적중 횟수")
+                    .register(registry);
+            FunctionCounter.builder("questions.list.cache.requests", questionListCache, QuestionListCache::getMissCount)
+                    .tag("result", "miss")
+                    .description("질문 목록 캐시 미스 횟수")
+                    .register(registry);
+            FunctionCounter.builder("questions.list.cache.evictions", questionListCache, QuestionListCache::getEvictionCount)
+                    .description("질문 목록 캐시 용량 초과로 제거된 항목 수")
+                    .register(registry);
+            Gauge.builder("questions.list.cache.hit.ratio", questionListCache, QuestionListCache::getHitRatio)
+                    .description("질문 목록 캐시 적중률")
+                    .register(registry);
+            Gauge.builder("questions.list.cache.size", questionListCache, QuestionListCache::getSize)
+                    .description("질문 목록 캐시 항목 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder interviewSessionMetrics(InterviewSessionService interviewSessionService) {
+        return registry -> {
+            Gauge.builder("sessions.active", interviewSessionService, InterviewSessionService::getActiveSessionCount)
+                    .description("메모리에 보관 중인 모의 면접 세션 수")
+                    .register(registry);
+            Gauge.builder("sessions.deadlines.pending", interviewSessionService, InterviewSessionService::getPendingDeadlineCount)
+                    .description("타이밍 휠에 등록된 질문 제한 시간 수")
+                    .register(registry);
+        };
+    }
+}
@@ -1,15 +1,18 @@
 package bumaview.config;
 
+import bumaview.common.security.BCryptCostCalibrator;
+import bumaview.common.security.BoundedPasswordEncoder;
+import bumaview.common.security.TargetCostBCryptPasswordEncoder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -17,9 +20,45 @@ public class SecurityConfig {
     @Value("${spring.security.password.bcrypt-strength:12}")
     private int bcryptStrength;
 
+    @Value("${spring.security.password.calibration.enabled:false}")
+    private boolean calibrationEnabled;
+
+    @Value("${spring.security.password.calibration.target-millis:150}")
+    private long calibrationTargetMillis;
+
+    @Value("${spring.security.password.calibration.min-strength:10}")
+    private int calibrationMinStrength;
+
+    @Value("${spring.security.password.calibration.max-strength:16}")
+    private int calibrationMaxStrength;
+
+    @Value("${spring.security.password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${spring.security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${spring.security.password.hashing.retry-after-seconds:1}")
+    private long hashingRetryAfterSeconds;
+
+    /**
+     * BCrypt 연산을 전용 스레드 풀에서 수행하는 PasswordEncoder
+     * 스레드 수를 지정하지 않으면 CPU 코어 수를 사용합니다.
+     * 보정 모드에서는 시작 시 측정한 해시 시간으로 목표 지연 시간에 맞는 비용을 고릅니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(bcryptStrength);
+    public BoundedPasswordEncoder passwordEncoder() {
+        int strength = calibrationEnabled
+            ? new BCryptCostCalibrator().calibrate(
+                Duration.ofMillis(calibrationTargetMillis), calibrationMinStrength, calibrationMaxStrength)
+            : bcryptStrength;
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+            new TargetCostBCryptPasswordEncoder(strength),
+            threads,
+            hashingQueueCapacity,
+            hashingRetryAfterSeconds
+        );
     }
 
     @Bean
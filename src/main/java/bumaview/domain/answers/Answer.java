@@ -3,6 +3,8 @@ package bumaview.domain.answers;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import bumaview.domain.auth.User;
 import bumaview.domain.questions.Question;
 import bumaview.domain.scores.Score;
@@ -12,10 +14,20 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "answers")
+@DynamicUpdate
+@Table(name = "answers", indexes = {
+    @Index(name = "idx_answers_user_id_id", columnList = "user_id, id"),
+    @Index(name = "idx_answers_question_id_id", columnList = "question_id, id"),
+    @Index(name = "idx_answers_question_id_average_score_id", columnList = "question_id, average_score, id")
+})
 public class Answer {
+    // 시퀀스에서 한 번에 예약하는 ID 개수 (answers_seq의 INCREMENT와 같아야 함)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 시퀀스 ID는 INSERT 전에 할당되므로 일괄 제출 시 JDBC 배치가 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answers_seq")
+    @SequenceGenerator(name = "answers_seq", sequenceName = "answers_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +44,20 @@ public class Answer {
 
     @OneToMany(mappedBy = "answer")
     private List<Score> scores;
+
+    // 평가 집계 컬럼은 AnswerRepository의 원자적 UPDATE로만 갱신됨 (평균 점수순 정렬/인덱스용)
+    @ColumnDefault("0")
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @ColumnDefault("0")
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    // 평가가 없으면 0
+    @ColumnDefault("0")
+    @Column(name = "average_score", nullable = false)
+    private double averageScore;
     
     public Answer(Question question, User user, String content, Integer time) {
         this.question = question;
@@ -0,0 +1,11 @@
+package bumaview.domain.answers;
+
+/**
+ * 질문별 답변 목록 정렬 기준
+ */
+public enum AnswerSort {
+    // 최신순 (ID 내림차순)
+    ID,
+    // 평균 점수 내림차순, 같으면 최신순 (평가가 없는 답변은 0점으로 취급)
+    SCORE,
+}
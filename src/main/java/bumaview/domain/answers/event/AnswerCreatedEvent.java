@@ -0,0 +1,20 @@
+package bumaview.domain.answers.event;
+
+import lombok.Getter;
+
+/**
+ * 답변이 등록되었음을 알리는 이벤트
+ */
+@Getter
+public class AnswerCreatedEvent {
+    
+    private final Long answerId;
+    private final Long questionId;
+    private final String userId;
+    
+    public AnswerCreatedEvent(Long answerId, Long questionId, String userId) {
+        this.answerId = answerId;
+        this.questionId = questionId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,20 @@
+package bumaview.domain.answers.event;
+
+import lombok.Getter;
+
+/**
+ * 답변이 삭제되었음을 알리는 이벤트
+ */
+@Getter
+public class AnswerDeletedEvent {
+    
+    private final Long answerId;
+    private final Long questionId;
+    private final String userId;
+    
+    public AnswerDeletedEvent(Long answerId, Long questionId, String userId) {
+        this.answerId = answerId;
+        this.questionId = questionId;
+        this.userId = userId;
+    }
+}
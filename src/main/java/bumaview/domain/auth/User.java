@@ -1,8 +1,12 @@
 package bumaview.domain.auth;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 import bumaview.domain.answers.Answer;
 import bumaview.domain.scores.Score;
 
@@ -12,7 +16,8 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-public class User {
+@DynamicUpdate
+public class User implements Persistable<String> {
     @Id
     private String id;
 
@@ -26,6 +31,28 @@ public class User {
 
     @OneToMany(mappedBy = "user")
     private List<Answer> answers;
+
+    // 통계 컬럼은 UserRepository의 원자적 UPDATE로만 갱신됨 (@DynamicUpdate로 엔티티 변경 시 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(name = "answer_count", nullable = false)
+    private long answerCount;
+
+    @ColumnDefault("0")
+    @Column(name = "received_score_sum", nullable = false)
+    private long receivedScoreSum;
+
+    @ColumnDefault("0")
+    @Column(name = "received_score_count", nullable = false)
+    private long receivedScoreCount;
+
+    @ColumnDefault("0")
+    @Column(name = "evaluated_count", nullable = false)
+    private long evaluatedCount;
+
+    // ID를 직접 지정하므로 save 시 merge 대신 persist 되도록 신규 여부를 따로 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
     
     public User(String id, String nickname, String password, Role role) {
         this.id = id;
@@ -33,4 +60,40 @@ public class User {
         this.password = password;
         this.role = role;
     }
+    
+    /**
+     * 패스워드 해시를 교체합니다.
+     * 
+     * @param encodedPassword 새로 해시된 패스워드
+     */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+    
+    /**
+     * 아직 저장되지 않은 사용자인지 반환합니다.
+     * 같은 ID의 사용자가 이미 있으면 덮어쓰지 않고 기본 키 충돌로 실패합니다.
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+    
+    /**
+     * 사용자 답변이 받은 평균 점수를 반환합니다.
+     * 
+     * @return 소수점 첫째 자리로 반올림한 평균 점수, 받은 평가가 없으면 null
+     */
+    public Double getAverageReceivedScore() {
+        if (receivedScoreCount == 0) {
+            return null;
+        }
+        return Math.round((double) receivedScoreSum / receivedScoreCount * 10.0) / 10.0;
+    }
 }
@@ -0,0 +1,20 @@
+package bumaview.domain.auth.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 로그인 실패가 누적되어 일시적으로 로그인이 차단되었을 때 발생하는 예외
+ */
+public class TooManyLoginAttemptsException extends BusinessException {
+    
+    private final long retryAfterSeconds;
+    
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
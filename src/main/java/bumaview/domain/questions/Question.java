@@ -5,16 +5,31 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import bumaview.domain.answers.Answer;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 
 @Getter
 @NoArgsConstructor
 @Entity
 
-@Table(name = "questions")
+@Table(name = "questions", indexes = {
+    @Index(name = "uk_questions_fingerprint", columnList = "fingerprint", unique = true)
+})
 public class Question {
+    // 시퀀스에서 한 번에 예약하는 ID 개수 (questions_seq의 INCREMENT와 같아야 함)
+    public static final int ID_ALLOCATION_SIZE = 50;
+    // 지문 계산 시 필드 구분자 (V4 마이그레이션의 chr(31)과 같아야 함)
+    private static final char FINGERPRINT_SEPARATOR = '\u001f';
+
+    // 시퀀스 ID는 INSERT 전에 할당되므로 JDBC 배치가 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_seq")
+    @SequenceGenerator(name = "questions_seq", sequenceName = "questions_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -25,6 +40,9 @@ public class Question {
     private String category;
     @Column(nullable = false, length = 4)
     private String questionAt;
+    // 중복 판별용 지문 (기존 중복 질문은 가장 먼저 등록된 질문만 값을 가짐)
+    @Column(length = 64)
+    private String fingerprint;
 
     @OneToMany(mappedBy = "question")
     private List<Answer> answers;
@@ -34,5 +52,25 @@ public class Question {
         this.company = company;
         this.category = category;
         this.questionAt = questionAt;
+        this.fingerprint = fingerprint(content, company, category, questionAt);
+    }
+    
+    /**
+     * 질문 내용(정규화)과 회사/카테고리/년도로 중복 판별용 SHA-256 지문을 만듭니다.
+     * 내용은 NFKC 정규화, 소문자 변환, 연속 공백 축약 후 비교하므로 공백이나 대소문자만 다른 질문도 같은 질문으로 봅니다.
+     */
+    public static String fingerprint(String content, String company, String category, String questionAt) {
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+        String source = normalized + FINGERPRINT_SEPARATOR + company + FINGERPRINT_SEPARATOR + category
+                + FINGERPRINT_SEPARATOR + questionAt;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -0,0 +1,11 @@
+package bumaview.domain.questions;
+
+/**
+ * 질문 내보내기 형식
+ */
+public enum QuestionExportFormat {
+    // CSV 일괄 등록과 같은 컬럼 순서 (content, category, company, questionAt)
+    CSV,
+    // 한 줄에 질문 하나씩인 JSON
+    NDJSON,
+}
@@ -0,0 +1,12 @@
+package bumaview.domain.questions;
+
+/**
+ * 질문 가져오기 작업 상태
+ */
+public enum QuestionImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED,
+}
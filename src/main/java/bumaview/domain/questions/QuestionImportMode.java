@@ -0,0 +1,11 @@
+package bumaview.domain.questions;
+
+/**
+ * CSV 질문 일괄 등록 방식
+ */
+public enum QuestionImportMode {
+    // 묶음 단위 JPA 배치 INSERT (묶음마다 커밋, 실패한 행만 제외)
+    BATCH,
+    // PostgreSQL COPY로 임시 테이블에 적재한 뒤 한 번에 병합 (전체가 하나의 트랜잭션)
+    COPY,
+}
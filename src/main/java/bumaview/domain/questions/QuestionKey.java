@@ -0,0 +1,29 @@
+package bumaview.domain.questions;
+
+import lombok.Getter;
+
+/**
+ * 질문 ID와 회사/카테고리/년도 값
+ *
+ * 내용 없이 목록 캐시, 집계 등 조건별 구조를 갱신하는 데 필요한 값만 담습니다.
+ * (JPQL 생성자 표현식으로 엔티티를 로딩하지 않고 조회)
+ */
+@Getter
+public class QuestionKey {
+    
+    private final Long id;
+    private final String company;
+    private final String category;
+    private final String questionAt;
+    
+    public QuestionKey(Long id, String company, String category, String questionAt) {
+        this.id = id;
+        this.company = company;
+        this.category = category;
+        this.questionAt = questionAt;
+    }
+    
+    public static QuestionKey of(Question question) {
+        return new QuestionKey(question.getId(), question.getCompany(), question.getCategory(), question.getQuestionAt());
+    }
+}
@@ -0,0 +1,19 @@
+package bumaview.domain.questions.event;
+
+import bumaview.domain.questions.Question;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 질문이 등록되었음을 알리는 이벤트 (단건 등록, CSV 일괄 등록)
+ */
+@Getter
+public class QuestionsCreatedEvent {
+    
+    private final List<Question> questions;
+    
+    public QuestionsCreatedEvent(List<Question> questions) {
+        this.questions = questions;
+    }
+}
@@ -0,0 +1,26 @@
+package bumaview.domain.questions.event;
+
+import bumaview.domain.questions.QuestionKey;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 질문이 삭제되었음을 알리는 이벤트
+ * 삭제된 질문의 회사/카테고리/년도 값이 필요한 구독자를 위해 ID와 필터 값을 담습니다. (내용은 담지 않음)
+ */
+@Getter
+public class QuestionsDeletedEvent {
+    
+    private final List<QuestionKey> questions;
+    
+    public QuestionsDeletedEvent(List<QuestionKey> questions) {
+        this.questions = questions;
+    }
+    
+    public List<Long> getQuestionIds() {
+        return questions.stream()
+                .map(QuestionKey::getId)
+                .toList();
+    }
+}
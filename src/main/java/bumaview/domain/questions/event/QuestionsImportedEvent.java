@@ -0,0 +1,17 @@
+package bumaview.domain.questions.event;
+
+import lombok.Getter;
+
+/**
+ * 질문이 대량으로 등록되었음을 알리는 이벤트 (COPY 등록)
+ * 등록된 질문을 담지 않으므로 구독자는 필요한 데이터를 다시 불러옵니다.
+ */
+@Getter
+public class QuestionsImportedEvent {
+    
+    private final int importedCount;
+    
+    public QuestionsImportedEvent(int importedCount) {
+        this.importedCount = importedCount;
+    }
+}
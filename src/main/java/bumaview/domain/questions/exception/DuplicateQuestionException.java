@@ -0,0 +1,13 @@
+package bumaview.domain.questions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 같은 내용/회사/카테고리/년도의 질문이 이미 등록되어 있을 때 발생하는 예외
+ */
+public class DuplicateQuestionException extends BusinessException {
+    
+    public DuplicateQuestionException() {
+        super("이미 등록된 질문입니다.");
+    }
+}
@@ -0,0 +1,13 @@
+package bumaview.domain.questions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 존재하지 않거나 보관 기간이 지난 가져오기 작업을 조회할 때 발생하는 예외
+ */
+public class ImportJobNotFoundException extends BusinessException {
+    
+    public ImportJobNotFoundException(String jobId) {
+        super("존재하지 않는 가져오기 작업입니다. ID: " + jobId);
+    }
+}
@@ -0,0 +1,13 @@
+package bumaview.domain.questions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 조건 없이 질문 일괄 삭제를 요청했을 때 발생하는 예외 (전체 삭제 방지)
+ */
+public class QuestionFilterRequiredException extends BusinessException {
+    
+    public QuestionFilterRequiredException() {
+        super("회사, 카테고리, 년도 중 하나 이상의 조건을 지정해야 합니다.");
+    }
+}
@@ -37,4 +37,12 @@ public class Score {
         this.content = content;
         this.score = score;
     }
+
+    /**
+     * 같은 평가자의 재평가로 점수와 내용을 덮어씁니다.
+     */
+    public void update(String content, Integer score) {
+        this.content = content;
+        this.score = score;
+    }
 }
@@ -0,0 +1,15 @@
+package bumaview.domain.sessions;
+
+/**
+ * 모의 면접 세션 상태
+ */
+public enum InterviewSessionStatus {
+    // 질문에 답하는 중
+    IN_PROGRESS,
+    // 질문이 모두 끝나 답변을 저장하는 중
+    FINISHING,
+    // 종료되어 답변이 저장됨 (답변이 없으면 저장 없이 종료)
+    FINISHED,
+    // 종료되었으나 답변 저장에 실패함 (예: 진행 중 질문이 삭제됨)
+    FAILED,
+}
@@ -0,0 +1,13 @@
+package bumaview.domain.sessions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 질문의 답변 제한 시간이 지난 뒤 답변을 제출할 때 발생하는 예외 (해당 질문은 건너뛴 것으로 처리됨)
+ */
+public class AnswerDeadlineExceededException extends BusinessException {
+    
+    public AnswerDeadlineExceededException() {
+        super("답변 제한 시간이 지났습니다.");
+    }
+}
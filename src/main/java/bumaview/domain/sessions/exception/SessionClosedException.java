@@ -0,0 +1,13 @@
+package bumaview.domain.sessions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 이미 종료된 세션에 답변을 제출할 때 발생하는 예외
+ */
+public class SessionClosedException extends BusinessException {
+    
+    public SessionClosedException() {
+        super("이미 종료된 면접 세션입니다.");
+    }
+}
@@ -0,0 +1,13 @@
+package bumaview.domain.sessions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 존재하지 않거나 보관 기간이 지났거나 다른 사용자의 세션을 조회할 때 발생하는 예외
+ */
+public class SessionNotFoundException extends BusinessException {
+    
+    public SessionNotFoundException(String sessionId) {
+        super("존재하지 않는 면접 세션입니다. ID: " + sessionId);
+    }
+}
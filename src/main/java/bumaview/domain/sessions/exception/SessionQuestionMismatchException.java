@@ -0,0 +1,13 @@
+package bumaview.domain.sessions.exception;
+
+import bumaview.common.exception.BusinessException;
+
+/**
+ * 세션의 현재 질문이 아닌 질문에 답변을 제출할 때 발생하는 예외
+ */
+public class SessionQuestionMismatchException extends BusinessException {
+    
+    public SessionQuestionMismatchException(Long questionId) {
+        super("현재 진행 중인 질문이 아닙니다. ID: " + questionId);
+    }
+}
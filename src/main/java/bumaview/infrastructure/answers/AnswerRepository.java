@@ -1,22 +1,67 @@
 package bumaview.infrastructure.answers;
 
 import bumaview.domain.answers.Answer;
+import bumaview.presentation.answers.dto.AnswerResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     
-    @Query("SELECT a FROM Answer a LEFT JOIN FETCH a.question LEFT JOIN FETCH a.scores WHERE a.user.id = :userId ORDER BY a.id DESC")
-    List<Answer> findByUserIdWithQuestion(@Param("userId") String userId);
+    /**
+     * 사용자의 답변을 응답 DTO로 바로 조회합니다. (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * 질문/사용자 ID는 답변의 외래 키 컬럼이고 평가 집계는 비정규화 컬럼이므로 조인 없이 answers만 읽습니다.
+     */
+    @Query("SELECT new bumaview.presentation.answers.dto.AnswerResponse(" +
+           "a.id, a.question.id, a.user.id, a.content, a.time, a.averageScore, a.scoreCount) " +
+           "FROM Answer a WHERE a.user.id = :userId AND (:afterId IS NULL OR a.id < :afterId) ORDER BY a.id DESC")
+    List<AnswerResponse> findResponsesByUserId(@Param("userId") String userId,
+                                               @Param("afterId") Long afterId,
+                                               Limit limit);
     
     @Query("SELECT a FROM Answer a LEFT JOIN FETCH a.scores s LEFT JOIN FETCH s.user WHERE a.id = :id")
     Optional<Answer> findByIdWithScores(@Param("id") Long id);
     
-    Long countByUserId(String userId);
+    // 첫 페이지는 커서 대신 최댓값을 넘겨 두 정렬 모두 인덱스 범위 스캔 하나로 처리
+    @Query("SELECT a FROM Answer a JOIN FETCH a.user " +
+           "WHERE a.question.id = :questionId AND a.id < :afterId ORDER BY a.id DESC")
+    List<Answer> findByQuestionIdOrderById(@Param("questionId") Long questionId,
+                                           @Param("afterId") long afterId,
+                                           Limit limit);
+    
+    @Query("SELECT a FROM Answer a JOIN FETCH a.user " +
+           "WHERE a.question.id = :questionId AND (a.averageScore, a.id) < (:afterScore, :afterId) " +
+           "ORDER BY a.averageScore DESC, a.id DESC")
+    List<Answer> findByQuestionIdOrderByScore(@Param("questionId") Long questionId,
+                                              @Param("afterScore") double afterScore,
+                                              @Param("afterId") long afterId,
+                                              Limit limit);
+    
+    /**
+     * 답변의 점수 합계와 평가 수를 원자적으로 증감하고 평균 점수를 다시 계산합니다.
+     * 평균 점수를 먼저 대입해 DB와 무관하게 변경 전 값으로 계산되도록 합니다. (MySQL은 앞에서 대입한 값을 사용)
+     */
+    @Modifying
+    @Query("UPDATE Answer a SET " +
+           "a.averageScore = CASE WHEN a.scoreCount + :countDelta > 0 " +
+           "THEN CAST(a.scoreSum + :sumDelta AS Double) / (a.scoreCount + :countDelta) ELSE 0 END, " +
+           "a.scoreSum = a.scoreSum + :sumDelta, " +
+           "a.scoreCount = a.scoreCount + :countDelta " +
+           "WHERE a.id = :answerId")
+    int addScore(@Param("answerId") Long answerId, @Param("sumDelta") long sumDelta, @Param("countDelta") long countDelta);
+    
+    @Modifying
+    @Query("DELETE FROM Answer a WHERE a.question.id IN :questionIds")
+    int deleteAllByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
+    
+    @Query("SELECT DISTINCT a.question.id FROM Answer a WHERE a.user.id = :userId")
+    List<Long> findAnsweredQuestionIds(@Param("userId") String userId);
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package bumaview.infrastructure.auth;
+
+import bumaview.domain.auth.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록용 JDBC Repository
+ *
+ * JPA의 persist는 행마다 INSERT를 보내므로 대량 등록 시 JDBC 배치로 한 번에 전송합니다.
+ * 사전 중복 검사 이후 다른 요청이 같은 ID로 가입한 경우 해당 행은 건너뜁니다. (ON CONFLICT DO NOTHING)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO users (id, nickname, password, role, answer_count, received_score_sum, received_score_count, evaluated_count) " +
+            "VALUES (?, ?, ?, ?, 0, 0, 0, 0) ON CONFLICT (id) DO NOTHING";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 사용자 목록을 JDBC 배치로 저장합니다.
+     *
+     * @param users 저장할 사용자 목록
+     * @param batchSize 한 번에 전송할 행 수
+     * @return 사용자별 저장 성공 여부 (입력 순서와 같음, ID 충돌로 건너뛴 행은 false)
+     */
+    public boolean[] batchInsert(List<User> users, int batchSize) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_SQL, users, batchSize, (ps, user) -> {
+            ps.setString(1, user.getId());
+            ps.setString(2, user.getNickname());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getRole().name());
+        });
+        
+        boolean[] inserted = new boolean[users.size()];
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                inserted[index++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return inserted;
+    }
+}
@@ -2,8 +2,14 @@ package bumaview.infrastructure.auth;
 
 import bumaview.domain.auth.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 사용자 JPA Repository
  */
@@ -17,4 +23,72 @@ public interface UserRepository extends JpaRepository<User, String> {
      * @return 사용자가 존재하면 true, 그렇지 않으면 false
      */
     boolean existsById(String id);
-}
\ No newline at end of file
+    
+    /**
+     * 주어진 ID 중 이미 존재하는 ID를 한 번의 쿼리로 조회합니다.
+     *
+     * @param ids 확인할 사용자 ID 목록
+     * @return 이미 존재하는 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 모든 사용자 ID를 조회합니다. (ID 필터 로딩용)
+     */
+    @Query("SELECT u.id FROM User u")
+    List<String> findAllIds();
+    
+    /**
+     * 사용자의 답변 수를 원자적으로 증감합니다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.answerCount = u.answerCount + :delta WHERE u.id = :userId")
+    int addAnswerCount(@Param("userId") String userId, @Param("delta") long delta);
+    
+    /**
+     * 사용자 답변이 받은 점수 합계와 평가 수를 원자적으로 증감합니다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.receivedScoreSum = u.receivedScoreSum + :sumDelta, " +
+           "u.receivedScoreCount = u.receivedScoreCount + :countDelta WHERE u.id = :userId")
+    int addReceivedScore(@Param("userId") String userId, @Param("sumDelta") long sumDelta, @Param("countDelta") long countDelta);
+    
+    /**
+     * 사용자가 평가한 답변 수를 원자적으로 증감합니다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.evaluatedCount = u.evaluatedCount + :delta WHERE u.id = :userId")
+    int addEvaluatedCount(@Param("userId") String userId, @Param("delta") long delta);
+    
+    /**
+     * 답변을 평가한 모든 사용자의 평가 수를 1씩 줄입니다. (답변 삭제 시, 평가 삭제 전에 호출)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.evaluatedCount = u.evaluatedCount - 1 " +
+           "WHERE u.id IN (SELECT s.user.id FROM Score s WHERE s.answer.id = :answerId)")
+    int decrementEvaluatedCountByAnswerId(@Param("answerId") Long answerId);
+    
+    /**
+     * 질문들에 달린 답변 작성자의 답변 수와 받은 점수 통계를 한 번에 줄입니다. (질문 삭제 시, 답변 삭제 전에 호출)
+     */
+    @Modifying
+    @Query("UPDATE User u SET " +
+           "u.answerCount = u.answerCount - " +
+           "(SELECT COUNT(a) FROM Answer a WHERE a.user.id = u.id AND a.question.id IN :questionIds), " +
+           "u.receivedScoreSum = u.receivedScoreSum - " +
+           "(SELECT COALESCE(SUM(a.scoreSum), 0) FROM Answer a WHERE a.user.id = u.id AND a.question.id IN :questionIds), " +
+           "u.receivedScoreCount = u.receivedScoreCount - " +
+           "(SELECT COALESCE(SUM(a.scoreCount), 0) FROM Answer a WHERE a.user.id = u.id AND a.question.id IN :questionIds) " +
+           "WHERE u.id IN (SELECT a.user.id FROM Answer a WHERE a.question.id IN :questionIds)")
+    int subtractAnswerStatsByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
+    
+    /**
+     * 질문들에 달린 답변을 평가한 사용자의 평가 수를 한 번에 줄입니다. (질문 삭제 시, 평가 삭제 전에 호출)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.evaluatedCount = u.evaluatedCount - " +
+           "(SELECT COUNT(s) FROM Score s WHERE s.user.id = u.id AND s.answer.question.id IN :questionIds) " +
+           "WHERE u.id IN (SELECT s.user.id FROM Score s WHERE s.answer.question.id IN :questionIds)")
+    int subtractEvaluatedCountByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
+}
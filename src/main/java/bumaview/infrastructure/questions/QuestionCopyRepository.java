@@ -0,0 +1,129 @@
+package bumaview.infrastructure.questions;
+
+import bumaview.domain.questions.Question;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * PostgreSQL COPY를 이용한 질문 대량 등록 Repository
+ *
+ * 행을 COPY로 임시 테이블에 적재한 뒤 INSERT ... SELECT 한 번으로 questions에 병합합니다.
+ * ID는 시퀀스에서 {@link Question#ID_ALLOCATION_SIZE}개 단위 구간을 필요한 만큼 예약해 할당하므로
+ * 애플리케이션의 pooled-lo 할당과 겹치지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionCopyRepository {
+    
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE questions_staging (" +
+            "seq BIGINT NOT NULL, content TEXT NOT NULL, company VARCHAR(255) NOT NULL, " +
+            "category VARCHAR(255) NOT NULL, question_at VARCHAR(4) NOT NULL, fingerprint VARCHAR(64) NOT NULL) " +
+            "ON COMMIT DROP";
+    
+    private static final String COPY_SQL =
+            "COPY questions_staging (seq, content, company, category, question_at, fingerprint) FROM STDIN WITH (FORMAT csv)";
+    
+    // 행 순번(seq)으로 예약한 구간(block)과 구간 안의 위치를 정해 ID를 계산
+    // 이미 등록된 질문과 지문이 같은 행은 건너뜀
+    private static final String MERGE_SQL =
+            "WITH blocks AS MATERIALIZED (" +
+            "  SELECT nextval('questions_seq') AS lo, row_number() OVER () - 1 AS block " +
+            "  FROM generate_series(1, ?)) " +
+            "INSERT INTO questions (id, content, company, category, question_at, fingerprint) " +
+            "SELECT b.lo + s.seq % " + Question.ID_ALLOCATION_SIZE + ", " +
+            "s.content, s.company, s.category, s.question_at, s.fingerprint " +
+            "FROM questions_staging s JOIN blocks b ON b.block = s.seq / " + Question.ID_ALLOCATION_SIZE + " " +
+            "ON CONFLICT (fingerprint) DO NOTHING";
+    
+    // 한 번에 COPY 스트림으로 보낼 버퍼 크기
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * producer가 쓴 행을 COPY로 적재하고 questions에 병합합니다.
+     * 임시 테이블은 커밋 시 삭제되므로 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param producer 적재할 행을 {@link StagingWriter}에 씀
+     * @return 등록된 질문 수 (지문이 중복되어 건너뛴 행 제외)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int copyInsert(Consumer<StagingWriter> producer) {
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        
+        long rowCount = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StagingWriter writer = new StagingWriter(copyIn);
+                producer.accept(writer);
+                writer.flush();
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        if (rowCount == 0) {
+            return 0;
+        }
+        
+        long blocks = (rowCount + Question.ID_ALLOCATION_SIZE - 1) / Question.ID_ALLOCATION_SIZE;
+        return jdbcTemplate.update(MERGE_SQL, blocks);
+    }
+    
+    /**
+     * 적재할 행을 CSV로 직렬화해 COPY 스트림에 씁니다.
+     */
+    public static class StagingWriter {
+        
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+        private long seq;
+        
+        private StagingWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+        
+        public void write(Question question) {
+            buffer.append(seq++).append(',');
+            appendField(question.getContent()).append(',');
+            appendField(question.getCompany()).append(',');
+            appendField(question.getCategory()).append(',');
+            appendField(question.getQuestionAt()).append(',');
+            appendField(question.getFingerprint()).append('\n');
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+        
+        private StringBuilder appendField(String value) {
+            // 모든 값을 따옴표로 감싸고 내부 따옴표는 두 번 써서 구분자/줄바꿈을 그대로 보존
+            return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+        
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY 스트림 쓰기에 실패했습니다.", e);
+            }
+            buffer.setLength(0);
+        }
+    }
+}
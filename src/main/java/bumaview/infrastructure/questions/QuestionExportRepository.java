@@ -0,0 +1,103 @@
+package bumaview.infrastructure.questions;
+
+import bumaview.domain.questions.QuestionKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * 질문 내보내기/검색 색인·샘플러 재구성/가져오기 중복 확인용 JDBC Repository
+ *
+ * 전방향 전용 커서로 fetchSize만큼씩 나누어 읽으므로 전체 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * PostgreSQL 드라이버는 자동 커밋이 꺼진 상태에서만 커서로 읽으므로 읽기 전용 트랜잭션 안에서 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionExportRepository {
+    
+    private static final String SELECT_SQL =
+            "SELECT id, content, company, category, question_at FROM questions WHERE " +
+            "(CAST(? AS VARCHAR) IS NULL OR company = ?) AND " +
+            "(CAST(? AS VARCHAR) IS NULL OR category = ?) AND " +
+            "(CAST(? AS VARCHAR) IS NULL OR question_at = ?) " +
+            "ORDER BY id";
+    
+    private static final String SELECT_KEYS_SQL =
+            "SELECT id, company, category, question_at FROM questions";
+    
+    private static final String SELECT_FINGERPRINTS_SQL =
+            "SELECT fingerprint FROM questions WHERE fingerprint IS NOT NULL";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${questions.export.fetch-size:1000}")
+    private int fetchSize;
+    
+    /**
+     * 조건에 맞는 질문을 ID 순으로 한 행씩 handler에 넘깁니다.
+     *
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @param handler 행 처리기
+     */
+    @Transactional(readOnly = true)
+    public void forEachQuestion(String company, String category, String questionAt, QuestionRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setString(1, company);
+            ps.setString(2, company);
+            ps.setString(3, category);
+            ps.setString(4, category);
+            ps.setString(5, questionAt);
+            ps.setString(6, questionAt);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong("id"), rs.getString("content"),
+            rs.getString("company"), rs.getString("category"), rs.getString("question_at")));
+    }
+    
+    /**
+     * 전체 질문의 ID와 회사/카테고리/년도 값을 한 행씩 handler에 넘깁니다. (내용 컬럼은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void forEachQuestionKey(Consumer<QuestionKey> handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                SELECT_KEYS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(new QuestionKey(rs.getLong("id"),
+            rs.getString("company"), rs.getString("category"), rs.getString("question_at"))));
+    }
+    
+    /**
+     * 등록된 질문의 지문을 한 행씩 handler에 넘깁니다. (가져오기 중복 확인용)
+     */
+    @Transactional(readOnly = true)
+    public void forEachFingerprint(Consumer<String> handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                SELECT_FINGERPRINTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getString(1)));
+    }
+    
+    /**
+     * 내보낼 질문 한 행을 처리합니다.
+     */
+    @FunctionalInterface
+    public interface QuestionRowHandler {
+        void handle(long id, String content, String company, String category, String questionAt) throws SQLException;
+    }
+}
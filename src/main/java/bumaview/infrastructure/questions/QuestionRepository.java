@@ -1,13 +1,14 @@
 package bumaview.infrastructure.questions;
 
 import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
@@ -16,14 +17,31 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
            "(:company IS NULL OR q.company = :company) AND " +
            "(:category IS NULL OR q.category = :category) AND " +
            "(:questionAt IS NULL OR q.questionAt = :questionAt) AND " +
-           "(:query IS NULL OR q.content LIKE %:query%)")
+           "(:query IS NULL OR q.content LIKE %:query%) AND " +
+           "(:afterId IS NULL OR q.id < :afterId) " +
+           "ORDER BY q.id DESC")
     List<Question> findQuestions(@Param("company") String company,
                                 @Param("category") String category,
                                 @Param("questionAt") String questionAt,
-                                @Param("query") String query);
+                                @Param("query") String query,
+                                @Param("afterId") Long afterId,
+                                Limit limit);
     
-    @Query("SELECT q FROM Question q LEFT JOIN FETCH q.answers a LEFT JOIN FETCH a.user WHERE q.id = :id")
-    Optional<Question> findByIdWithAnswers(@Param("id") Long id);
+    // 일괄 삭제 대상은 내용 없이 ID와 필터 값만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new bumaview.domain.questions.QuestionKey(q.id, q.company, q.category, q.questionAt) " +
+           "FROM Question q WHERE " +
+           "(:company IS NULL OR q.company = :company) AND " +
+           "(:category IS NULL OR q.category = :category) AND " +
+           "(:questionAt IS NULL OR q.questionAt = :questionAt)")
+    List<QuestionKey> findKeysByFilters(@Param("company") String company,
+                                        @Param("category") String category,
+                                        @Param("questionAt") String questionAt);
+    
+    boolean existsByFingerprint(String fingerprint);
+    
+    @Query("SELECT q.company, q.category, q.questionAt, COUNT(q) FROM Question q " +
+           "GROUP BY q.company, q.category, q.questionAt")
+    List<Object[]> countGroupByFacets();
     
     @Query(value = "SELECT * FROM questions q WHERE " +
                    "(:company IS NULL OR q.company = :company) AND " +
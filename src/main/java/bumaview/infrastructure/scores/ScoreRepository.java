@@ -2,12 +2,17 @@ package bumaview.infrastructure.scores;
 
 import bumaview.domain.scores.Score;
 import bumaview.domain.scores.ScoreId;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ScoreRepository extends JpaRepository<Score, ScoreId> {
@@ -15,10 +20,17 @@ public interface ScoreRepository extends JpaRepository<Score, ScoreId> {
     @Query("SELECT s FROM Score s LEFT JOIN FETCH s.user WHERE s.answer.id = :answerId")
     List<Score> findByAnswerIdWithUser(@Param("answerId") Long answerId);
     
-    void deleteByAnswerId(Long answerId);
+    // 파생 삭제 메서드는 평가를 하나씩 로딩해 삭제하므로 DELETE 한 번으로 처리
+    @Modifying
+    @Query("DELETE FROM Score s WHERE s.answer.id = :answerId")
+    int deleteAllByAnswerId(@Param("answerId") Long answerId);
     
-    @Query("SELECT AVG(s.score) FROM Score s WHERE s.answer.user.id = :userId")
-    Double findAverageScoreByUserId(@Param("userId") String userId);
+    @Modifying
+    @Query("DELETE FROM Score s WHERE s.answer.id IN (SELECT a.id FROM Answer a WHERE a.question.id IN :questionIds)")
+    int deleteAllByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
     
-    Long countByUserId(String userId);
+    // 재평가 시 통계 차이를 계산하는 동안 같은 평가의 동시 재평가가 끼어들지 않도록 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Score s WHERE s.answer.id = :answerId AND s.user.id = :userId")
+    Optional<Score> findForUpdate(@Param("answerId") Long answerId, @Param("userId") String userId);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package bumaview.presentation.answers;
 
 import bumaview.application.answers.AnswerService;
 import bumaview.common.auth.AuthContext;
+import bumaview.common.auth.AuthPrincipal;
 import bumaview.common.auth.AuthRequired;
+import bumaview.common.pagination.CursorPage;
 import bumaview.domain.answers.Answer;
+import bumaview.presentation.answers.dto.AnswerBatchCreateRequest;
 import bumaview.presentation.answers.dto.AnswerCreateRequest;
 import bumaview.presentation.answers.dto.AnswerDetailResponse;
 import bumaview.presentation.answers.dto.AnswerResponse;
@@ -46,19 +49,37 @@ public class AnswerController {
     }
     
     /**
-     * 내 답변 목록 조회 API
-     * 
-     * @return 현재 사용자의 답변 목록
+     * 답변 일괄 제출 API (모의 면접 한 회분을 한 트랜잭션으로 저장)
+     *
+     * @param request 답변 저장 요청 목록 (최대 100개)
+     * @return 저장된 답변 목록 (요청 순서)
      */
     @AuthRequired
-    @GetMapping("/my")
-    public ResponseEntity<List<AnswerResponse>> getMyAnswers() {
+    @PostMapping("/batch")
+    public ResponseEntity<List<AnswerResponse>> saveAnswers(@Valid @RequestBody AnswerBatchCreateRequest request) {
         String userId = authContext.getCurrentUserId();
         
-        List<Answer> answers = answerService.getMyAnswers(userId);
-        List<AnswerResponse> responses = answers.stream()
+        List<AnswerResponse> responses = answerService.saveAnswers(userId, request.getAnswers()).stream()
                 .map(AnswerResponse::new)
                 .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+    
+    /**
+     * 내 답변 목록 조회 API (최신순, 커서 기반 페이지)
+     * 
+     * @param after 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기 (최대 100)
+     * @return 현재 사용자의 답변 페이지
+     */
+    @AuthRequired
+    @GetMapping("/my")
+    public ResponseEntity<CursorPage<AnswerResponse>> getMyAnswers(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        String userId = authContext.getCurrentUserId();
+        
+        CursorPage<AnswerResponse> responses = answerService.getMyAnswers(userId, after, limit);
         
         return ResponseEntity.ok(responses);
     }
@@ -85,10 +106,9 @@ public class AnswerController {
     @AuthRequired
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAnswer(@PathVariable Long id) {
-        String userId = authContext.getCurrentUserId();
-        bumaview.domain.auth.Role userRole = authContext.getCurrentUserRole();
-        
-        answerService.deleteAnswer(id, userId, userRole);
+        AuthPrincipal principal = authContext.getCurrentPrincipal();
+
+        answerService.deleteAnswer(id, principal.getUserId(), principal.getRole());
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
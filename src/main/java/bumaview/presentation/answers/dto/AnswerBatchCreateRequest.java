@@ -0,0 +1,20 @@
+package bumaview.presentation.answers.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class AnswerBatchCreateRequest {
+    
+    public static final int MAX_SIZE = 100;
+    
+    @NotEmpty(message = "답변 목록은 필수입니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 제출할 수 있는 답변은 최대 " + MAX_SIZE + "개입니다.")
+    private List<@Valid AnswerCreateRequest> answers;
+}
@@ -20,4 +20,10 @@ public class AnswerCreateRequest {
     @NotNull(message = "소요 시간은 필수입니다.")
     @Positive(message = "소요 시간은 양수여야 합니다.")
     private Integer time;
+    
+    public AnswerCreateRequest(Long questionId, String answer, Integer time) {
+        this.questionId = questionId;
+        this.answer = answer;
+        this.time = time;
+    }
 }
\ No newline at end of file
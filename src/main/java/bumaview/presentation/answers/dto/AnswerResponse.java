@@ -12,25 +12,32 @@ public class AnswerResponse {
     private final String content;
     private final Integer time;
     private final Double averageScore;
+    private final long scoreCount;
     
+    // 평가 컬렉션 대신 답변에 비정규화된 집계 컬럼을 사용 (답변마다 추가 쿼리 없음)
     public AnswerResponse(Answer answer) {
         this.id = answer.getId();
         this.questionId = answer.getQuestion().getId();
         this.userId = answer.getUser().getId();
         this.content = answer.getContent();
         this.time = answer.getTime();
-        this.averageScore = calculateAverageScore(answer);
+        this.averageScore = roundAverage(answer.getAverageScore(), answer.getScoreCount());
+        this.scoreCount = answer.getScoreCount();
     }
     
-    private Double calculateAverageScore(Answer answer) {
-        if (answer.getScores() == null || answer.getScores().isEmpty()) {
-            return null;
-        }
-        
-        double sum = answer.getScores().stream()
-                .mapToInt(score -> score.getScore())
-                .sum();
-        
-        return Math.round((sum / answer.getScores().size()) * 10.0) / 10.0;
+    // JPQL 생성자 표현식용 (엔티티를 로딩하지 않고 컬럼 값으로 바로 생성)
+    public AnswerResponse(Long id, Long questionId, String userId, String content, Integer time,
+                          double averageScore, long scoreCount) {
+        this.id = id;
+        this.questionId = questionId;
+        this.userId = userId;
+        this.content = content;
+        this.time = time;
+        this.averageScore = roundAverage(averageScore, scoreCount);
+        this.scoreCount = scoreCount;
+    }
+    
+    private static Double roundAverage(double averageScore, long scoreCount) {
+        return scoreCount == 0 ? null : Math.round(averageScore * 10.0) / 10.0;
     }
 }
\ No newline at end of file
@@ -1,18 +1,25 @@
 package bumaview.presentation.auth;
 
+import bumaview.application.auth.UserProvisioningService;
 import bumaview.application.auth.UserService;
 import bumaview.common.auth.AuthContext;
 import bumaview.common.auth.AuthRequired;
+import bumaview.common.security.ClientIpResolver;
+import bumaview.domain.auth.Role;
+import bumaview.presentation.auth.dto.IdAvailabilityResponse;
 import bumaview.presentation.auth.dto.LoginRequest;
 import bumaview.presentation.auth.dto.RefreshTokenRequest;
 import bumaview.presentation.auth.dto.SignupRequest;
 import bumaview.presentation.auth.dto.TokenResponse;
 import bumaview.presentation.auth.dto.UserInfoResponse;
+import bumaview.presentation.auth.dto.UserUploadResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -21,7 +28,9 @@ import jakarta.validation.Valid;
 public class AuthController {
     
     private final UserService userService;
+    private final UserProvisioningService userProvisioningService;
     private final AuthContext authContext;
+    private final ClientIpResolver clientIpResolver;
     
     /**
      * 회원가입 API
@@ -35,15 +44,28 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * ID 사용 가능 여부 확인 API
+     *
+     * @param id 확인할 사용자 ID
+     * @return 사용 가능 여부
+     */
+    @GetMapping("/check-id")
+    public ResponseEntity<IdAvailabilityResponse> checkId(@RequestParam String id) {
+        boolean available = userService.isIdAvailable(id);
+        return ResponseEntity.ok(new IdAvailabilityResponse(id, available));
+    }
+    
     /**
      * 로그인 API
      * 
      * @param loginRequest 로그인 요청 데이터
+     * @param request HTTP 요청 (클라이언트 IP 확인용)
      * @return JWT 토큰 정보
      */
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        TokenResponse response = userService.login(loginRequest);
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        TokenResponse response = userService.login(loginRequest, clientIpResolver.resolve(request));
         return ResponseEntity.ok(response);
     }
     
@@ -55,7 +77,7 @@ public class AuthController {
     @AuthRequired
     @PostMapping("/logout")
     public ResponseEntity<Void> logout() {
-        userService.logout();
+        userService.logout(authContext.getCurrentUserId());
         return ResponseEntity.noContent().build();
     }
     
@@ -83,4 +105,27 @@ public class AuthController {
         TokenResponse response = userService.refreshToken(request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * CSV 파일로 사용자 일괄 등록 API
+     *
+     * @param file CSV 파일 (id, nickname, password, role 순서)
+     * @return 업로드 결과
+     */
+    @AuthRequired(roles = {Role.ADMIN})
+    @PostMapping("/users/file")
+    public ResponseEntity<UserUploadResult> uploadUsers(@RequestParam("file") MultipartFile file) {
+        // 파일 유효성 검증
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        
+        String filename = file.getOriginalFilename();
+        if (filename == null || !filename.toLowerCase().endsWith(".csv")) {
+            throw new IllegalArgumentException("CSV 파일만 업로드 가능합니다.");
+        }
+        
+        UserUploadResult result = userProvisioningService.provisionFromCsv(file);
+        return ResponseEntity.ok(result);
+    }
 }
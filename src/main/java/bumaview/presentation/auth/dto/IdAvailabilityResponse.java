@@ -0,0 +1,16 @@
+package bumaview.presentation.auth.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class IdAvailabilityResponse {
+    private String id;
+    private boolean available;
+    
+    public IdAvailabilityResponse(String id, boolean available) {
+        this.id = id;
+        this.available = available;
+    }
+}
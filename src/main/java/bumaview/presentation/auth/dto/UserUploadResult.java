@@ -0,0 +1,23 @@
+package bumaview.presentation.auth.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class UserUploadResult {
+    
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<String> errors;
+    
+    public UserUploadResult(int totalCount, int successCount, int failureCount, List<String> errors) {
+        this.totalCount = totalCount;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.errors = errors;
+    }
+}
@@ -1,12 +1,20 @@
 package bumaview.presentation.common.exception;
 
 import bumaview.common.exception.BusinessException;
+import bumaview.common.exception.ServerBusyException;
 import bumaview.domain.auth.exception.DuplicateUserException;
 import bumaview.domain.auth.exception.InvalidCredentialsException;
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
+import bumaview.domain.questions.exception.DuplicateQuestionException;
+import bumaview.domain.questions.exception.ImportJobNotFoundException;
 import bumaview.domain.scores.exception.SelfEvaluationNotAllowedException;
+import bumaview.domain.sessions.exception.AnswerDeadlineExceededException;
+import bumaview.domain.sessions.exception.SessionClosedException;
+import bumaview.domain.sessions.exception.SessionNotFoundException;
 import bumaview.presentation.common.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -50,6 +58,48 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
     
+    /**
+     * 서버 과부하 예외 처리 (503 + Retry-After)
+     */
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServerBusyException(
+            ServerBusyException ex, WebRequest request) {
+        
+        logger.warn("Request rejected due to overload: {}", getPath(request));
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            ex.getMessage(),
+            getPath(request)
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+    
+    /**
+     * 로그인 시도 초과 예외 처리 (429 + Retry-After)
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyLoginAttemptsException(
+            TooManyLoginAttemptsException ex, WebRequest request) {
+        
+        logger.warn("Login throttled for request: {}", getPath(request));
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            ex.getMessage(),
+            getPath(request)
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+    
     /**
      * Bean Validation 실패 예외 처리
      */
@@ -157,7 +207,7 @@ public class GlobalExceptionHandler {
      * 비즈니스 예외의 타입에 따라 HTTP 상태 코드를 결정
      */
     private HttpStatus determineHttpStatus(BusinessException ex) {
-        if (ex instanceof DuplicateUserException) {
+        if (ex instanceof DuplicateUserException || ex instanceof DuplicateQuestionException) {
             return HttpStatus.CONFLICT;
         }
         if (ex instanceof InvalidCredentialsException) {
@@ -166,6 +216,12 @@ public class GlobalExceptionHandler {
         if (ex instanceof SelfEvaluationNotAllowedException) {
             return HttpStatus.FORBIDDEN;
         }
+        if (ex instanceof ImportJobNotFoundException || ex instanceof SessionNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (ex instanceof SessionClosedException || ex instanceof AnswerDeadlineExceededException) {
+            return HttpStatus.CONFLICT;
+        }
         // 추후 다른 비즈니스 예외들을 위한 확장 포인트
         return HttpStatus.BAD_REQUEST;
     }
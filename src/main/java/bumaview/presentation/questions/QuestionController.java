@@ -1,21 +1,37 @@
 package bumaview.presentation.questions;
 
+import bumaview.application.answers.AnswerService;
+import bumaview.application.questions.QuestionExportService;
+import bumaview.application.questions.QuestionImportJob;
+import bumaview.application.questions.QuestionImportJobService;
 import bumaview.application.questions.QuestionService;
 import bumaview.common.auth.AuthContext;
 import bumaview.common.auth.AuthRequired;
+import bumaview.common.pagination.CursorPage;
+import bumaview.domain.answers.AnswerSort;
 import bumaview.domain.auth.Role;
 import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionExportFormat;
+import bumaview.domain.questions.QuestionImportMode;
+import bumaview.presentation.answers.dto.AnswerResponse;
 import bumaview.presentation.questions.dto.QuestionCreateRequest;
+import bumaview.presentation.questions.dto.QuestionDeleteResult;
 import bumaview.presentation.questions.dto.QuestionDetailResponse;
+import bumaview.presentation.questions.dto.QuestionFacetsResponse;
+import bumaview.presentation.questions.dto.QuestionImportJobResponse;
 import bumaview.presentation.questions.dto.QuestionResponse;
-import bumaview.presentation.questions.dto.QuestionUploadResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -24,31 +40,75 @@ import java.util.List;
 public class QuestionController {
     
     private final QuestionService questionService;
+    private final QuestionImportJobService questionImportJobService;
+    private final QuestionExportService questionExportService;
+    private final AnswerService answerService;
     private final AuthContext authContext;
     
     /**
-     * 질문 조회 API
+     * 질문 조회 API (커서 기반 페이지)
      * 
      * @param company 회사명 (선택)
      * @param category 카테고리 (선택)
      * @param questionAt 질문 년도 (선택)
      * @param query 질문 내용 검색어 (선택)
-     * @return 조건에 맞는 질문 목록
+     * @param after 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기 (최대 100)
+     * @return 조건에 맞는 질문 페이지
      */
     @GetMapping
-    public ResponseEntity<List<QuestionResponse>> getQuestions(
+    public ResponseEntity<CursorPage<QuestionResponse>> getQuestions(
             @RequestParam(required = false) String company,
             @RequestParam(required = false) String category,
             @RequestParam(name = "question_at", required = false) String questionAt,
-            @RequestParam(required = false) String query) {
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
         
-        List<Question> questions = questionService.getQuestions(company, category, questionAt, query);
-        List<QuestionResponse> responses = questions.stream()
-                .map(QuestionResponse::new)
-                .toList();
+        CursorPage<QuestionResponse> responses = questionService.getQuestions(company, category, questionAt, query, after, limit);
         return ResponseEntity.ok(responses);
     }
     
+    /**
+     * 필터 항목별 질문 수 조회 API
+     *
+     * @return 회사/카테고리/년도별 질문 수
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<QuestionFacetsResponse> getQuestionFacets() {
+        return ResponseEntity.ok(questionService.getQuestionFacets());
+    }
+    
+    /**
+     * 질문 내보내기 API
+     * 조회한 행을 바로 응답으로 스트리밍하므로 질문 수와 무관하게 메모리 사용량이 일정합니다.
+     *
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @param format 내보내기 형식 (CSV 기본, NDJSON)
+     * @return 질문 파일 (CSV는 일괄 등록과 같은 content, category, company, questionAt 순서)
+     */
+    @AuthRequired(roles = {Role.ADMIN})
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportQuestions(
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String category,
+            @RequestParam(name = "question_at", required = false) String questionAt,
+            @RequestParam(defaultValue = "CSV") QuestionExportFormat format) {
+        
+        boolean ndjson = format == QuestionExportFormat.NDJSON;
+        StreamingResponseBody body = outputStream ->
+            questionExportService.export(company, category, questionAt, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.parseMediaType("application/x-ndjson") : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(ndjson ? "questions.ndjson" : "questions.csv")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+    
     /**
      * 질문 단일 조회 API
      * 
@@ -57,11 +117,30 @@ public class QuestionController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<QuestionDetailResponse> getQuestionById(@PathVariable Long id) {
-        Question question = questionService.getQuestionById(id);
-        QuestionDetailResponse response = new QuestionDetailResponse(question);
+        QuestionDetailResponse response = questionService.getQuestionById(id);
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 질문별 답변 목록 조회 API (커서 기반 페이지)
+     *
+     * @param id 질문 ID
+     * @param sort 정렬 기준 (SCORE: 평균 점수순 기본, ID: 최신순)
+     * @param after 이전 응답의 nextCursor 또는 질문 상세의 answersNextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기 (최대 100)
+     * @return 질문의 답변 페이지
+     */
+    @GetMapping("/{id}/answers")
+    public ResponseEntity<CursorPage<AnswerResponse>> getQuestionAnswers(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "SCORE") AnswerSort sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<AnswerResponse> responses = answerService.getQuestionAnswers(id, sort, after, limit)
+                .map(AnswerResponse::new);
+        return ResponseEntity.ok(responses);
+    }
+    
     /**
      * 질문 랜덤 조회 API
      * 
@@ -108,13 +187,17 @@ public class QuestionController {
     
     /**
      * CSV 파일로 질문 일괄 등록 API
+     * 가져오기는 백그라운드 작업으로 실행되며, 반환된 작업 ID로 진행 상황을 조회합니다.
      * 
-     * @param file CSV 파일 (content, company, category, questionAt 순서)
-     * @return 업로드 결과
+     * @param file CSV 파일 (content, category, company, questionAt 순서)
+     * @param mode 등록 방식 (BATCH 기본, 대량 등록은 COPY)
+     * @return 등록된 가져오기 작업 (202 Accepted)
      */
     @AuthRequired(roles = {Role.ADMIN})
     @PostMapping("/file")
-    public ResponseEntity<QuestionUploadResult> uploadQuestions(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<QuestionImportJobResponse> uploadQuestions(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "BATCH") QuestionImportMode mode) {
         // 파일 유효성 검증
         if (file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
@@ -125,8 +208,34 @@ public class QuestionController {
             throw new IllegalArgumentException("CSV 파일만 업로드 가능합니다.");
         }
         
-        QuestionUploadResult result = questionService.uploadQuestionsFromCsv(file);
-        return ResponseEntity.ok(result);
+        QuestionImportJob job = questionImportJobService.submit(file, mode);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new QuestionImportJobResponse(job));
+    }
+    
+    /**
+     * 질문 가져오기 작업 진행 상황 조회 API
+     *
+     * @param jobId 작업 ID
+     * @return 처리/성공/실패 행 수와 행별 오류
+     */
+    @AuthRequired(roles = {Role.ADMIN})
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<QuestionImportJobResponse> getImportJob(@PathVariable String jobId) {
+        QuestionImportJob job = questionImportJobService.getJob(jobId);
+        return ResponseEntity.ok(new QuestionImportJobResponse(job));
+    }
+    
+    /**
+     * 질문 가져오기 작업 취소 API
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청된 작업 (실행 중이면 처리 중인 묶음을 마친 뒤 멈춤)
+     */
+    @AuthRequired(roles = {Role.ADMIN})
+    @DeleteMapping("/import-jobs/{jobId}")
+    public ResponseEntity<QuestionImportJobResponse> cancelImportJob(@PathVariable String jobId) {
+        QuestionImportJob job = questionImportJobService.cancel(jobId);
+        return ResponseEntity.ok(new QuestionImportJobResponse(job));
     }
     
     /**
@@ -141,4 +250,23 @@ public class QuestionController {
         questionService.deleteQuestion(id);
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * 질문 일괄 삭제 API (답변과 평가 포함)
+     *
+     * @param company 회사명 (선택)
+     * @param category 카테고리 (선택)
+     * @param questionAt 질문 년도 (선택)
+     * @return 삭제된 질문 수 (조건이 하나도 없으면 400)
+     */
+    @AuthRequired(roles = {Role.ADMIN})
+    @DeleteMapping
+    public ResponseEntity<QuestionDeleteResult> deleteQuestions(
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String category,
+            @RequestParam(name = "question_at", required = false) String questionAt) {
+        
+        int deletedCount = questionService.deleteQuestions(company, category, questionAt);
+        return ResponseEntity.ok(new QuestionDeleteResult(deletedCount));
+    }
 }
\ No newline at end of file
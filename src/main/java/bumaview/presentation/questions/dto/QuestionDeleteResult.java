@@ -0,0 +1,14 @@
+package bumaview.presentation.questions.dto;
+
+import lombok.Getter;
+
+@Getter
+public class QuestionDeleteResult {
+    
+    // 삭제된 질문 수 (답변과 평가는 함께 삭제됨)
+    private final int deletedCount;
+    
+    public QuestionDeleteResult(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
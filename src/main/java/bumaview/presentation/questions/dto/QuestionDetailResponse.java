@@ -1,5 +1,6 @@
 package bumaview.presentation.questions.dto;
 
+import bumaview.common.pagination.CursorPage;
 import bumaview.domain.questions.Question;
 import bumaview.presentation.answers.dto.AnswerResponse;
 import lombok.Getter;
@@ -14,17 +15,20 @@ public class QuestionDetailResponse {
     private final String category;
     private final String questionAt;
     private final List<AnswerResponse> answers;
+    // 나머지 답변은 GET /questions/{id}/answers?sort=SCORE&after={answersNextCursor}로 이어서 조회 (없으면 null)
+    private final String answersNextCursor;
     
-    public QuestionDetailResponse(Question question) {
+    /**
+     * @param question 질문
+     * @param answers 답변 첫 페이지 (평균 점수순)
+     */
+    public QuestionDetailResponse(Question question, CursorPage<AnswerResponse> answers) {
         this.id = question.getId();
         this.content = question.getContent();
         this.company = question.getCompany();
         this.category = question.getCategory();
         this.questionAt = question.getQuestionAt();
-        this.answers = question.getAnswers() != null ? 
-            question.getAnswers().stream()
-                .map(AnswerResponse::new)
-                .toList() : 
-            List.of();
+        this.answers = answers.getItems();
+        this.answersNextCursor = answers.getNextCursor();
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package bumaview.presentation.questions.dto;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 필터 항목별 질문 수
+ * 각 맵은 질문 수가 많은 순서로 정렬되어 있습니다.
+ */
+@Getter
+public class QuestionFacetsResponse {
+    private final long total;
+    private final Map<String, Long> companies;
+    private final Map<String, Long> categories;
+    private final Map<String, Long> years;
+    
+    public QuestionFacetsResponse(long total, Map<String, Long> companies, Map<String, Long> categories,
+                                  Map<String, Long> years) {
+        this.total = total;
+        this.companies = companies;
+        this.categories = categories;
+        this.years = years;
+    }
+}
@@ -0,0 +1,41 @@
+package bumaview.presentation.questions.dto;
+
+import bumaview.application.questions.QuestionImportJob;
+import bumaview.application.questions.QuestionImportProgress;
+import bumaview.domain.questions.QuestionImportJobStatus;
+import bumaview.domain.questions.QuestionImportMode;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class QuestionImportJobResponse {
+    private final String id;
+    private final QuestionImportMode mode;
+    private final QuestionImportJobStatus status;
+    private final int processedCount;
+    private final int successCount;
+    private final int failureCount;
+    private final int duplicateCount;
+    private final List<String> errors;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime createdAt;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime finishedAt;
+    
+    public QuestionImportJobResponse(QuestionImportJob job) {
+        QuestionImportProgress progress = job.getProgress();
+        this.id = job.getId();
+        this.mode = job.getMode();
+        this.status = job.getStatus();
+        this.processedCount = progress.getProcessedCount();
+        this.successCount = progress.getSuccessCount();
+        this.failureCount = progress.getFailureCount();
+        this.duplicateCount = progress.getDuplicateCount();
+        this.errors = progress.getErrors();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
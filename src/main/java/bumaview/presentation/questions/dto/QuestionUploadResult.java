@@ -12,12 +12,16 @@ public class QuestionUploadResult {
     private int totalCount;
     private int successCount;
     private int failureCount;
+    // 이미 등록된 질문과 같아 건너뛴 행 수
+    private int duplicateCount;
     private List<String> errors;
     
-    public QuestionUploadResult(int totalCount, int successCount, int failureCount, List<String> errors) {
+    public QuestionUploadResult(int totalCount, int successCount, int failureCount, int duplicateCount,
+                                List<String> errors) {
         this.totalCount = totalCount;
         this.successCount = successCount;
         this.failureCount = failureCount;
+        this.duplicateCount = duplicateCount;
         this.errors = errors;
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package bumaview.presentation.sessions;
+
+import bumaview.application.sessions.InterviewSessionService;
+import bumaview.common.auth.AuthContext;
+import bumaview.common.auth.AuthRequired;
+import bumaview.presentation.sessions.dto.InterviewSessionCreateRequest;
+import bumaview.presentation.sessions.dto.InterviewSessionResponse;
+import bumaview.presentation.sessions.dto.SessionAnswerRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/sessions")
+@RequiredArgsConstructor
+public class InterviewSessionController {
+    
+    private final InterviewSessionService interviewSessionService;
+    private final AuthContext authContext;
+    
+    /**
+     * 모의 면접 세션 시작 API
+     * 조건에 맞는 질문을 뽑아 고정하고 첫 질문의 제한 시간을 시작합니다.
+     *
+     * @param request 세션 조건 (회사/카테고리/년도, 질문 수, 질문별 제한 시간)
+     * @return 시작된 세션
+     */
+    @AuthRequired
+    @PostMapping
+    public ResponseEntity<InterviewSessionResponse> startSession(@Valid @RequestBody InterviewSessionCreateRequest request) {
+        String userId = authContext.getCurrentUserId();
+        
+        InterviewSessionResponse response = interviewSessionService.start(
+            userId,
+            request.getCompany(),
+            request.getCategory(),
+            request.getQuestionAt(),
+            request.getAmount(),
+            request.getTimeLimitSeconds()
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    /**
+     * 세션 조회 API
+     *
+     * @param sessionId 세션 ID
+     * @return 세션 상태 (현재 질문, 마감 시각, 진행 현황)
+     */
+    @AuthRequired
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<InterviewSessionResponse> getSession(@PathVariable String sessionId) {
+        String userId = authContext.getCurrentUserId();
+        return ResponseEntity.ok(interviewSessionService.getSession(sessionId, userId));
+    }
+    
+    /**
+     * 현재 질문 답변 제출 API
+     * 소요 시간은 서버에서 계산하며, 제한 시간이 지난 답변은 409로 거절됩니다.
+     *
+     * @param sessionId 세션 ID
+     * @param request 현재 질문 ID와 답변 내용
+     * @return 답변 반영 후 세션 (마지막 질문이면 종료되어 답변이 저장됨)
+     */
+    @AuthRequired
+    @PostMapping("/{sessionId}/answers")
+    public ResponseEntity<InterviewSessionResponse> submitAnswer(
+            @PathVariable String sessionId,
+            @Valid @RequestBody SessionAnswerRequest request) {
+        String userId = authContext.getCurrentUserId();
+        
+        InterviewSessionResponse response = interviewSessionService.submitAnswer(
+            sessionId, userId, request.getQuestionId(), request.getAnswer());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 세션 종료 API
+     * 남은 질문을 건너뛰고 그때까지의 답변을 한 번에 저장합니다.
+     *
+     * @param sessionId 세션 ID
+     * @return 종료된 세션
+     */
+    @AuthRequired
+    @PostMapping("/{sessionId}/finish")
+    public ResponseEntity<InterviewSessionResponse> finishSession(@PathVariable String sessionId) {
+        String userId = authContext.getCurrentUserId();
+        return ResponseEntity.ok(interviewSessionService.finish(sessionId, userId));
+    }
+}
@@ -0,0 +1,25 @@
+package bumaview.presentation.sessions.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class InterviewSessionCreateRequest {
+    
+    private String company;
+    
+    private String category;
+    
+    private String questionAt;
+    
+    @NotNull(message = "질문 수는 필수입니다.")
+    @Positive(message = "질문 수는 양수여야 합니다.")
+    private Integer amount;
+    
+    // 질문별 제한 시간(초), 생략하면 기본값
+    @Positive(message = "제한 시간은 양수여야 합니다.")
+    private Integer timeLimitSeconds;
+}
@@ -0,0 +1,38 @@
+package bumaview.presentation.sessions.dto;
+
+import bumaview.application.sessions.InterviewSession;
+import bumaview.domain.sessions.InterviewSessionStatus;
+import bumaview.presentation.questions.dto.QuestionResponse;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+public class InterviewSessionResponse {
+    
+    private final String id;
+    private final InterviewSessionStatus status;
+    private final List<QuestionResponse> questions;
+    private final long timeLimitSeconds;
+    // 답변할 차례인 질문의 순번과 마감 시각 (남은 질문이 없으면 null)
+    private final Integer currentQuestionIndex;
+    private final Instant currentDeadline;
+    private final int answeredCount;
+    private final int skippedCount;
+    // 종료 시 저장된 답변 ID (진행 중이면 빈 목록)
+    private final List<Long> savedAnswerIds;
+    
+    public InterviewSessionResponse(InterviewSession session) {
+        this.id = session.getId();
+        this.status = session.getStatus();
+        this.questions = session.getQuestions();
+        this.timeLimitSeconds = session.getTimeLimit().toSeconds();
+        this.currentQuestionIndex = session.isInProgress() && session.getCurrentQuestion() != null
+                ? session.getCurrentIndex() : null;
+        this.currentDeadline = this.currentQuestionIndex != null ? session.getCurrentDeadline() : null;
+        this.answeredCount = session.getAnswers().size();
+        this.skippedCount = session.getSkippedCount();
+        this.savedAnswerIds = session.getSavedAnswerIds();
+    }
+}
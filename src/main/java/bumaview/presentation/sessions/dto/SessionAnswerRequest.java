@@ -0,0 +1,17 @@
+package bumaview.presentation.sessions.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SessionAnswerRequest {
+    
+    @NotNull(message = "질문 ID는 필수입니다.")
+    private Long questionId;
+    
+    @NotBlank(message = "답변 내용은 필수입니다.")
+    private String answer;
+}
@@ -0,0 +1,12 @@
+-- 사용자 통계 컬럼 추가 (GET /auth/me 를 기본 키 조회 한 번으로 처리하기 위함)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS answer_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS received_score_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS received_score_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS evaluated_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터로 통계 채우기
+UPDATE users u SET
+    answer_count = (SELECT COUNT(*) FROM answers a WHERE a.user_id = u.id),
+    received_score_sum = (SELECT COALESCE(SUM(s.score), 0) FROM scores s JOIN answers a ON s.answer_id = a.id WHERE a.user_id = u.id),
+    received_score_count = (SELECT COUNT(*) FROM scores s JOIN answers a ON s.answer_id = a.id WHERE a.user_id = u.id),
+    evaluated_count = (SELECT COUNT(*) FROM scores s WHERE s.user_id = u.id);
@@ -0,0 +1,2 @@
+-- GET /answers/my 커서 페이지 조회 (user_id = ? AND id < ? ORDER BY id DESC) 용 인덱스
+CREATE INDEX IF NOT EXISTS idx_answers_user_id_id ON answers (user_id, id);
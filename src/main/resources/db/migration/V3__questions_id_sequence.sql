@@ -0,0 +1,8 @@
+-- 질문 ID를 IDENTITY에서 시퀀스로 전환 (JDBC 배치 INSERT 용)
+-- pooled-lo 최적화: nextval 값이 할당 구간의 시작이며 한 번에 50개를 예약
+CREATE SEQUENCE IF NOT EXISTS questions_seq INCREMENT BY 50;
+SELECT setval('questions_seq', COALESCE((SELECT MAX(id) FROM questions), 0) + 1, false);
+
+ALTER TABLE questions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE questions ALTER COLUMN id SET DEFAULT nextval('questions_seq');
+ALTER SEQUENCE questions_seq OWNED BY questions.id;
@@ -0,0 +1,19 @@
+-- 질문 중복 판별용 지문 컬럼 (Question.fingerprint와 같은 정규화/해시)
+-- 내용: NFKC 정규화 -> 소문자 -> 연속 공백 축약 -> 앞뒤 공백 제거, 필드 구분자는 chr(31)
+ALTER TABLE questions ADD COLUMN IF NOT EXISTS fingerprint VARCHAR(64);
+
+UPDATE questions
+SET fingerprint = encode(sha256(convert_to(
+        btrim(regexp_replace(lower(normalize(content, NFKC)), '\s+', ' ', 'g'))
+        || chr(31) || company || chr(31) || category || chr(31) || question_at, 'UTF8')), 'hex')
+WHERE fingerprint IS NULL;
+
+-- 이미 중복된 질문은 답변이 달려 있을 수 있으므로 삭제하지 않고, 가장 먼저 등록된 질문만 지문을 유지
+UPDATE questions q
+SET fingerprint = NULL
+WHERE EXISTS (
+    SELECT 1 FROM questions o
+    WHERE o.fingerprint = q.fingerprint AND o.id < q.id
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_questions_fingerprint ON questions (fingerprint);
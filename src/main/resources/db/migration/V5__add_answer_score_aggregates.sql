@@ -0,0 +1,18 @@
+-- 답변 평가 집계 컬럼 추가 (질문별 답변을 평균 점수순 커서 페이지로 조회하기 위함)
+ALTER TABLE answers ADD COLUMN IF NOT EXISTS score_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE answers ADD COLUMN IF NOT EXISTS score_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE answers ADD COLUMN IF NOT EXISTS average_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- 기존 데이터로 집계 채우기
+UPDATE answers a SET
+    score_sum = s.score_sum,
+    score_count = s.score_count,
+    average_score = s.score_sum::DOUBLE PRECISION / s.score_count
+FROM (SELECT answer_id, SUM(score) AS score_sum, COUNT(*) AS score_count FROM scores GROUP BY answer_id) s
+WHERE s.answer_id = a.id;
+
+-- GET /questions/{id}/answers 커서 페이지 조회용 인덱스
+-- sort=ID: question_id = ? AND id < ? ORDER BY id DESC
+-- sort=SCORE: question_id = ? AND (average_score, id) < (?, ?) ORDER BY average_score DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_answers_question_id_id ON answers (question_id, id);
+CREATE INDEX IF NOT EXISTS idx_answers_question_id_average_score_id ON answers (question_id, average_score, id);
@@ -0,0 +1,8 @@
+-- 답변 ID를 IDENTITY에서 시퀀스로 전환 (답변 일괄 제출의 JDBC 배치 INSERT 용)
+-- pooled-lo 최적화: nextval 값이 할당 구간의 시작이며 한 번에 50개를 예약
+CREATE SEQUENCE IF NOT EXISTS answers_seq INCREMENT BY 50;
+SELECT setval('answers_seq', COALESCE((SELECT MAX(id) FROM answers), 0) + 1, false);
+
+ALTER TABLE answers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE answers ALTER COLUMN id SET DEFAULT nextval('answers_seq');
+ALTER SEQUENCE answers_seq OWNED BY answers.id;
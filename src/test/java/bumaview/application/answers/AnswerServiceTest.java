@@ -0,0 +1,131 @@
+package bumaview.application.answers;
+
+import bumaview.common.pagination.CursorCodec;
+import bumaview.common.pagination.CursorPage;
+import bumaview.domain.answers.Answer;
+import bumaview.domain.answers.event.AnswerCreatedEvent;
+import bumaview.domain.auth.Role;
+import bumaview.domain.auth.User;
+import bumaview.domain.questions.Question;
+import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.infrastructure.auth.UserRepository;
+import bumaview.infrastructure.questions.QuestionRepository;
+import bumaview.presentation.answers.dto.AnswerCreateRequest;
+import bumaview.presentation.answers.dto.AnswerResponse;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnswerService 테스트")
+class AnswerServiceTest {
+    
+    @Mock
+    private AnswerRepository answerRepository;
+    
+    @Mock
+    private QuestionRepository questionRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @InjectMocks
+    private AnswerService answerService;
+    
+    @Test
+    @DisplayName("답변 저장은 질문과 사용자를 조회하지 않고 참조로 INSERT해야 한다")
+    void saveAnswer_UsesReferences() {
+        // given
+        given(questionRepository.getReferenceById(1L)).willReturn(question(1L));
+        given(userRepository.getReferenceById("user1")).willReturn(new User("user1", "닉네임", "password", Role.USER));
+        given(answerRepository.saveAllAndFlush(any())).willAnswer(invocation -> {
+            List<Answer> answers = invocation.getArgument(0);
+            ReflectionTestUtils.setField(answers.get(0), "id", 10L);
+            return answers;
+        });
+        
+        // when
+        Answer answer = answerService.saveAnswer(1L, "user1", "답변 내용", 60);
+        
+        // then
+        assertThat(answer.getId()).isEqualTo(10L);
+        verify(questionRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findById(any());
+        verify(userRepository).addAnswerCount("user1", 1);
+        verify(eventPublisher).publishEvent(any(AnswerCreatedEvent.class));
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 질문으로 외래 키 제약을 위반하면 예외가 발생해야 한다")
+    void saveAnswers_ForeignKeyViolation_ThrowsException() {
+        // given
+        given(questionRepository.getReferenceById(anyLong())).willAnswer(invocation -> question(invocation.getArgument(0)));
+        given(userRepository.getReferenceById("user1")).willReturn(new User("user1", "닉네임", "password", Role.USER));
+        ConstraintViolationException violation = new ConstraintViolationException("외래 키 위반", new SQLException("fk"),
+            "insert into answers", ConstraintViolationException.ConstraintKind.FOREIGN_KEY, "fk_answers_question");
+        given(answerRepository.saveAllAndFlush(any())).willThrow(new DataIntegrityViolationException("fk", violation));
+        
+        // when & then
+        assertThatThrownBy(() -> answerService.saveAnswers("user1", List.of(request(1L), request(999L))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("존재하지 않는 질문");
+        verify(userRepository, never()).addAnswerCount(any(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    @Test
+    @DisplayName("내 답변 목록은 엔티티 대신 DTO 프로젝션으로 조회하고 한 건을 더 읽어 다음 커서를 만들어야 한다")
+    void getMyAnswers_UsesProjection() {
+        // given
+        given(answerRepository.findResponsesByUserId(eq("user1"), isNull(), eq(Limit.of(3)))).willReturn(List.of(
+            new AnswerResponse(30L, 3L, "user1", "답변 3", 60, 4.25, 4),
+            new AnswerResponse(20L, 2L, "user1", "답변 2", 60, 0.0, 0),
+            new AnswerResponse(10L, 1L, "user1", "답변 1", 60, 3.0, 1)));
+        
+        // when
+        CursorPage<AnswerResponse> page = answerService.getMyAnswers("user1", null, 2);
+        
+        // then
+        assertThat(page.getItems()).extracting(AnswerResponse::getId).containsExactly(30L, 20L);
+        assertThat(page.getItems()).extracting(AnswerResponse::getAverageScore).containsExactly(4.3, null);
+        assertThat(CursorCodec.decodeId(page.getNextCursor())).isEqualTo(20L);
+    }
+    
+    private static Question question(Long id) {
+        Question question = new Question("질문 내용", "네이버", "백엔드", "2024");
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+    
+    private static AnswerCreateRequest request(Long questionId) {
+        AnswerCreateRequest request = new AnswerCreateRequest();
+        ReflectionTestUtils.setField(request, "questionId", questionId);
+        ReflectionTestUtils.setField(request, "answer", "답변 내용");
+        ReflectionTestUtils.setField(request, "time", 60);
+        return request;
+    }
+}
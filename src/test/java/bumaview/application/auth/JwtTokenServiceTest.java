@@ -3,6 +3,7 @@ package bumaview.application.auth;
 import bumaview.domain.auth.Role;
 import bumaview.domain.auth.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,7 @@ class JwtTokenServiceTest {
         ReflectionTestUtils.setField(jwtTokenService, "secretKey", secretKey);
         ReflectionTestUtils.setField(jwtTokenService, "accessTokenExpiration", 3600000L); // 1시간
         ReflectionTestUtils.setField(jwtTokenService, "refreshTokenExpiration", 604800000L); // 7일
+        jwtTokenService.init();
         
         testUser = new User("testuser", "테스트유저", "password", Role.USER);
     }
@@ -112,4 +114,38 @@ class JwtTokenServiceTest {
         assertThat(refreshClaims.get("tokenType")).isEqualTo("refresh");
         assertThat(accessClaims.get("tokenType")).isNull();
     }
+    
+    @Test
+    @DisplayName("검증 캐시가 활성화되면 같은 토큰의 재검증은 캐시에서 처리되어야 한다")
+    void validateToken_UsesVerifiedCache() {
+        // given
+        ReflectionTestUtils.setField(jwtTokenService, "verifiedCacheEnabled", true);
+        ReflectionTestUtils.setField(jwtTokenService, "verifiedCacheMaximumSize", 100L);
+        jwtTokenService.init();
+        String accessToken = jwtTokenService.generateAccessToken(testUser);
+        
+        // when
+        Claims first = jwtTokenService.validateToken(accessToken);
+        Claims second = jwtTokenService.validateToken(accessToken);
+        
+        // then
+        assertThat(second.getSubject()).isEqualTo(first.getSubject());
+        assertThat(jwtTokenService.getVerifiedCacheMissCount()).isEqualTo(1);
+        assertThat(jwtTokenService.getVerifiedCacheHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("변조된 토큰은 캐시 여부와 관계없이 거부되어야 한다")
+    void validateToken_TamperedToken_ThrowsException() {
+        // given
+        ReflectionTestUtils.setField(jwtTokenService, "verifiedCacheEnabled", true);
+        jwtTokenService.init();
+        String accessToken = jwtTokenService.generateAccessToken(testUser);
+        jwtTokenService.validateToken(accessToken);
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+        
+        // when & then
+        assertThatThrownBy(() -> jwtTokenService.validateToken(tampered))
+            .isInstanceOf(JwtException.class);
+    }
 }
\ No newline at end of file
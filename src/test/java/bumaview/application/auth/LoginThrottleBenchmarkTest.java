@@ -0,0 +1,113 @@
+package bumaview.application.auth;
+
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 크리덴셜 스터핑 부하에서 로그인 제한이 줄이는 BCrypt CPU 시간 측정
+ *
+ * 같은 시도 목록을 제한 없이/제한을 거쳐 각각 처리하며 BCrypt 검증 시간과 스레드 CPU 시간을 잽니다.
+ * 수 초 이상 걸리므로 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@DisplayName("LoginThrottle 스터핑 부하 측정")
+class LoginThrottleBenchmarkTest {
+    
+    // 운영 cost 보정 하한 (security.password.calibration.min-strength)
+    private static final int BCRYPT_STRENGTH = 10;
+    private static final int ATTEMPTS = 200;
+    private static final int ACCOUNTS = 50;
+    private static final String CLIENT_IP = "203.0.113.7";
+    
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    
+    private BCryptPasswordEncoder encoder;
+    private String storedHash;
+    
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threadMXBean.isCurrentThreadCpuTimeSupported(), "스레드 CPU 시간 측정을 지원하지 않는 JVM");
+        threadMXBean.setThreadCpuTimeEnabled(true);
+        
+        encoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        storedHash = encoder.encode("correct-password");
+        // JIT 워밍업
+        for (int i = 0; i < 5; i++) {
+            encoder.matches("warmup-" + i, storedHash);
+        }
+    }
+    
+    @Test
+    @DisplayName("제한을 거치면 같은 스터핑 부하의 BCrypt CPU 시간이 크게 줄어야 한다")
+    void credentialStuffing_ThrottleSavesCpu() {
+        // when
+        Measurement unthrottled = simulateStuffing(null);
+        Measurement throttled = simulateStuffing(newThrottle());
+        
+        // then
+        long savedNanos = unthrottled.cpuNanos - throttled.cpuNanos;
+        System.out.printf("스터핑 %d회 (BCrypt cost %d, 계정 %d개, IP 1개)%n", ATTEMPTS, BCRYPT_STRENGTH, ACCOUNTS);
+        System.out.printf("  제한 없음: BCrypt %d회, BCrypt %d ms, 스레드 CPU %d ms%n",
+            unthrottled.hashes, unthrottled.hashNanos / 1_000_000, unthrottled.cpuNanos / 1_000_000);
+        System.out.printf("  제한 적용: BCrypt %d회, BCrypt %d ms, 스레드 CPU %d ms%n",
+            throttled.hashes, throttled.hashNanos / 1_000_000, throttled.cpuNanos / 1_000_000);
+        System.out.printf("  절감: 스레드 CPU %d ms (%.1f%%)%n",
+            savedNanos / 1_000_000, 100.0 * savedNanos / unthrottled.cpuNanos);
+        
+        assertThat(unthrottled.hashes).isEqualTo(ATTEMPTS);
+        assertThat(throttled.hashes).isLessThanOrEqualTo(20);
+        assertThat(throttled.cpuNanos).isLessThan(unthrottled.cpuNanos / 5);
+    }
+    
+    private Measurement simulateStuffing(LoginThrottle throttle) {
+        Measurement measurement = new Measurement();
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            String accountId = "user" + (i % ACCOUNTS);
+            try {
+                if (throttle != null) {
+                    throttle.checkAllowed(accountId, CLIENT_IP);
+                }
+                long hashStart = System.nanoTime();
+                boolean matched = encoder.matches("guess-" + i, storedHash);
+                measurement.hashNanos += System.nanoTime() - hashStart;
+                measurement.hashes++;
+                if (!matched && throttle != null) {
+                    throttle.recordFailure(accountId, CLIENT_IP);
+                }
+            } catch (TooManyLoginAttemptsException e) {
+                // 차단된 요청은 해시 연산 없이 거부됨
+            }
+        }
+        measurement.cpuNanos = threadMXBean.getCurrentThreadCpuTime() - cpuStart;
+        return measurement;
+    }
+    
+    private static LoginThrottle newThrottle() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "accountThreshold", 5);
+        ReflectionTestUtils.setField(throttle, "ipThreshold", 20);
+        ReflectionTestUtils.setField(throttle, "decaySeconds", 300L);
+        ReflectionTestUtils.setField(throttle, "baseLockoutSeconds", 30L);
+        ReflectionTestUtils.setField(throttle, "maxLockoutSeconds", 3600L);
+        return throttle;
+    }
+    
+    private static class Measurement {
+        
+        private int hashes;
+        private long hashNanos;
+        private long cpuNanos;
+    }
+}
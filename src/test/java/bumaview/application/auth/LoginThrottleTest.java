@@ -0,0 +1,116 @@
+package bumaview.application.auth;
+
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginThrottle 테스트")
+class LoginThrottleTest {
+    
+    private LoginThrottle throttle;
+    
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "accountThreshold", 5);
+        ReflectionTestUtils.setField(throttle, "ipThreshold", 20);
+        ReflectionTestUtils.setField(throttle, "decaySeconds", 300L);
+        ReflectionTestUtils.setField(throttle, "baseLockoutSeconds", 30L);
+        ReflectionTestUtils.setField(throttle, "maxLockoutSeconds", 3600L);
+    }
+    
+    @Test
+    @DisplayName("계정 실패가 임계치에 도달하면 차단되어야 한다")
+    void recordFailure_AccountThreshold_Locks() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            throttle.recordFailure("victim", "10.0.0." + i);
+        }
+        assertThatCode(() -> throttle.checkAllowed("victim", "10.0.0.100")).doesNotThrowAnyException();
+        
+        // when
+        throttle.recordFailure("victim", "10.0.0.99");
+        
+        // then
+        assertThatThrownBy(() -> throttle.checkAllowed("victim", "10.0.0.100"))
+            .isInstanceOf(TooManyLoginAttemptsException.class)
+            .satisfies(e -> assertThat(((TooManyLoginAttemptsException) e).getRetryAfterSeconds()).isBetween(1L, 30L));
+        assertThatCode(() -> throttle.checkAllowed("other", "10.0.0.100")).doesNotThrowAnyException();
+    }
+    
+    @Test
+    @DisplayName("한 IP에서 여러 계정으로 실패하면 IP가 차단되어야 한다")
+    void recordFailure_IpThreshold_Locks() {
+        // when
+        for (int i = 0; i < 20; i++) {
+            throttle.recordFailure("user" + i, "203.0.113.7");
+        }
+        
+        // then
+        assertThatThrownBy(() -> throttle.checkAllowed("fresh-user", "203.0.113.7"))
+            .isInstanceOf(TooManyLoginAttemptsException.class);
+        assertThatCode(() -> throttle.checkAllowed("fresh-user", "198.51.100.1")).doesNotThrowAnyException();
+    }
+    
+    @Test
+    @DisplayName("로그인 성공 시 계정 실패 기록이 초기화되어야 한다")
+    void recordSuccess_ResetsAccount() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            throttle.recordFailure("user", "10.0.0.1");
+        }
+        
+        // when
+        throttle.recordSuccess("user");
+        throttle.recordFailure("user", "10.0.0.1");
+        
+        // then
+        assertThatCode(() -> throttle.checkAllowed("user", "10.0.0.2")).doesNotThrowAnyException();
+    }
+    
+    @Test
+    @DisplayName("크리덴셜 스터핑 시도가 차단되면 이후 요청은 BCrypt 검증 없이 거부되어야 한다")
+    void credentialStuffing_SkipsHashForBlockedAttempts() {
+        // given: 한 IP가 여러 계정으로 500회 시도, 실제 BCrypt(cost 4)로 검증
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        String storedHash = encoder.encode("correct-password");
+        int attempts = 500;
+        
+        // when
+        long unthrottledMatches = simulateStuffing(null, encoder, storedHash, attempts);
+        long throttledMatches = simulateStuffing(throttle, encoder, storedHash, attempts);
+        
+        // then
+        assertThat(unthrottledMatches).isEqualTo(attempts);
+        assertThat(throttledMatches).isLessThanOrEqualTo(20);
+    }
+    
+    private long simulateStuffing(LoginThrottle throttle, BCryptPasswordEncoder encoder, String storedHash, int attempts) {
+        AtomicInteger matches = new AtomicInteger();
+        for (int i = 0; i < attempts; i++) {
+            String accountId = "user" + (i % 50);
+            String clientIp = "203.0.113.7";
+            try {
+                if (throttle != null) {
+                    throttle.checkAllowed(accountId, clientIp);
+                }
+                matches.incrementAndGet();
+                if (!encoder.matches("guess-" + i, storedHash) && throttle != null) {
+                    throttle.recordFailure(accountId, clientIp);
+                }
+            } catch (TooManyLoginAttemptsException e) {
+                // 차단된 요청은 해시 연산 없이 거부됨
+            }
+        }
+        return matches.get();
+    }
+}
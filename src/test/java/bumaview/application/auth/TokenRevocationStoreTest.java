@@ -0,0 +1,62 @@
+package bumaview.application.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenRevocationStore 테스트")
+class TokenRevocationStoreTest {
+    
+    private TokenRevocationStore store;
+    
+    @BeforeEach
+    void setUp() {
+        store = new TokenRevocationStore();
+        ReflectionTestUtils.setField(store, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.setField(store, "expectedRevokedTokens", 1000L);
+        ReflectionTestUtils.setField(store, "falsePositiveRate", 0.01);
+        store.init();
+    }
+    
+    @Test
+    @DisplayName("같은 토큰은 한 번만 폐기할 수 있어야 한다")
+    void revoke_OnlyOnce() {
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        
+        assertThat(store.isRevoked("jti-1")).isFalse();
+        assertThat(store.revoke("jti-1", expiration)).isTrue();
+        assertThat(store.revoke("jti-1", expiration)).isFalse();
+        assertThat(store.isRevoked("jti-1")).isTrue();
+        assertThat(store.isRevoked("jti-2")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("만료된 폐기 항목은 정리 후 제거되어야 한다")
+    void prune_RemovesExpiredEntries() {
+        store.revoke("expired", new Date(System.currentTimeMillis() - 1000));
+        store.revoke("active", new Date(System.currentTimeMillis() + 60000));
+        
+        store.prune();
+        
+        assertThat(store.isRevoked("expired")).isFalse();
+        assertThat(store.isRevoked("active")).isTrue();
+        assertThat(store.revoke("expired", new Date(System.currentTimeMillis() + 60000))).isTrue();
+    }
+    
+    @Test
+    @DisplayName("로그아웃 이전에 발급된 토큰만 폐기된 것으로 판단해야 한다")
+    void revokeAllForUser_UsesIssuedAt() {
+        Date issuedBefore = new Date(System.currentTimeMillis() - 5000);
+        
+        store.revokeAllForUser("testuser");
+        
+        assertThat(store.isRevokedForUser("testuser", issuedBefore)).isTrue();
+        assertThat(store.isRevokedForUser("testuser", new Date(System.currentTimeMillis() + 5000))).isFalse();
+        assertThat(store.isRevokedForUser("otheruser", issuedBefore)).isFalse();
+    }
+}
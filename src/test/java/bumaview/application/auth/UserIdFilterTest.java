@@ -0,0 +1,57 @@
+package bumaview.application.auth;
+
+import bumaview.infrastructure.auth.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserIdFilter 테스트")
+class UserIdFilterTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @InjectMocks
+    private UserIdFilter userIdFilter;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userIdFilter, "expectedUsers", 1000L);
+        ReflectionTestUtils.setField(userIdFilter, "falsePositiveRate", 0.01);
+    }
+    
+    @Test
+    @DisplayName("로딩 전에는 항상 DB 확인이 필요하다고 판정해야 한다")
+    void mightExist_BeforeLoad_ReturnsTrue() {
+        assertThat(userIdFilter.mightExist("anyone")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("로딩 후에는 존재하는 ID와 추가된 ID만 양성으로 판정해야 한다")
+    void mightExist_AfterLoad() {
+        // given
+        given(userRepository.count()).willReturn(2L);
+        given(userRepository.findAllIds()).willReturn(List.of("alice", "bob"));
+        
+        // when
+        userIdFilter.load();
+        userIdFilter.add("carol");
+        
+        // then
+        assertThat(userIdFilter.mightExist("alice")).isTrue();
+        assertThat(userIdFilter.mightExist("bob")).isTrue();
+        assertThat(userIdFilter.mightExist("carol")).isTrue();
+        assertThat(userIdFilter.mightExist("dave")).isFalse();
+    }
+}
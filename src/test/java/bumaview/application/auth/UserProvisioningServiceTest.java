@@ -0,0 +1,89 @@
+package bumaview.application.auth;
+
+import bumaview.common.security.BoundedPasswordEncoder;
+import bumaview.domain.auth.Role;
+import bumaview.domain.auth.User;
+import bumaview.infrastructure.auth.UserBatchRepository;
+import bumaview.infrastructure.auth.UserRepository;
+import bumaview.presentation.auth.dto.UserUploadResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProvisioningService 테스트")
+class UserProvisioningServiceTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private UserBatchRepository userBatchRepository;
+    
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+    
+    @Mock
+    private UserIdFilter userIdFilter;
+    
+    @InjectMocks
+    private UserProvisioningService userProvisioningService;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userProvisioningService, "chunkSize", 500);
+        ReflectionTestUtils.setField(userProvisioningService, "batchSize", 100);
+    }
+    
+    @Test
+    @DisplayName("중복 확인은 한 번의 쿼리로, 저장은 배치로 수행되어야 한다")
+    void provisionFromCsv_ChecksDuplicatesOnceAndBatchInserts() {
+        // given
+        String csv = "id,nickname,password,role\n" +
+                "student1,학생1,password111,\n" +
+                "student2,학생2,password222,USER\n" +
+                "existing,기존,password333,\n" +
+                "student1,중복,password444,\n" +
+                "x,짧은ID,password555,\n" +
+                "teacher1,선생님,password666,ADMIN\n";
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of("existing"));
+        given(passwordEncoder.encodeAll(anyList())).willReturn(List.of("h1", "h2", "h3"));
+        given(userBatchRepository.batchInsert(anyList(), anyInt())).willReturn(new boolean[]{true, true, true});
+        
+        // when
+        UserUploadResult result = userProvisioningService.provisionFromCsv(file);
+        
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(6);
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        assertThat(result.getFailureCount()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(3);
+        verify(userRepository, times(1)).findExistingIds(anyCollection());
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository).batchInsert(captor.capture(), anyInt());
+        assertThat(captor.getValue()).extracting(User::getId).containsExactly("student1", "student2", "teacher1");
+        assertThat(captor.getValue()).extracting(User::getPassword).containsExactly("h1", "h2", "h3");
+        assertThat(captor.getValue().get(2).getRole()).isEqualTo(Role.ADMIN);
+    }
+}
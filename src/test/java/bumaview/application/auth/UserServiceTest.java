@@ -3,9 +3,15 @@ package bumaview.application.auth;
 import bumaview.domain.auth.Role;
 import bumaview.domain.auth.User;
 import bumaview.domain.auth.exception.DuplicateUserException;
+import bumaview.domain.auth.exception.InvalidCredentialsException;
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
 import bumaview.infrastructure.auth.UserRepository;
+import bumaview.presentation.auth.dto.LoginRequest;
 import bumaview.presentation.auth.dto.SignupRequest;
 import bumaview.presentation.auth.dto.TokenResponse;
+import bumaview.presentation.auth.dto.UserInfoResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +20,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +46,15 @@ class UserServiceTest {
     @Mock
     private JwtTokenService jwtTokenService;
     
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+    
+    @Mock
+    private LoginThrottle loginThrottle;
+    
+    @Mock
+    private UserIdFilter userIdFilter;
+    
     @InjectMocks
     private UserService userService;
     
@@ -50,6 +71,7 @@ class UserServiceTest {
     @DisplayName("정상적인 회원가입이 성공해야 한다")
     void signup_Success() {
         // given
+        given(userIdFilter.mightExist("testuser")).willReturn(true);
         given(userRepository.existsById("testuser")).willReturn(false);
         given(passwordEncoder.encode("password123")).willReturn("encrypted_password");
         given(userRepository.save(any(User.class))).willReturn(savedUser);
@@ -74,6 +96,7 @@ class UserServiceTest {
     @DisplayName("중복된 ID로 회원가입 시 DuplicateUserException이 발생해야 한다")
     void signup_DuplicateId_ThrowsException() {
         // given
+        given(userIdFilter.mightExist("testuser")).willReturn(true);
         given(userRepository.existsById("testuser")).willReturn(true);
         
         // when & then
@@ -88,6 +111,7 @@ class UserServiceTest {
     @DisplayName("패스워드가 암호화되어 저장되어야 한다")
     void signup_PasswordEncryption() {
         // given
+        given(userIdFilter.mightExist("testuser")).willReturn(true);
         given(userRepository.existsById("testuser")).willReturn(false);
         given(passwordEncoder.encode("password123")).willReturn("encrypted_password");
         given(userRepository.save(any(User.class))).willReturn(savedUser);
@@ -106,6 +130,7 @@ class UserServiceTest {
     @DisplayName("JWT 토큰이 생성되어 반환되어야 한다")
     void signup_TokenGeneration() {
         // given
+        given(userIdFilter.mightExist("testuser")).willReturn(true);
         given(userRepository.existsById("testuser")).willReturn(false);
         given(passwordEncoder.encode("password123")).willReturn("encrypted_password");
         given(userRepository.save(any(User.class))).willReturn(savedUser);
@@ -122,4 +147,175 @@ class UserServiceTest {
         verify(jwtTokenService).generateAccessToken(savedUser);
         verify(jwtTokenService).generateRefreshToken(savedUser);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("저장된 해시 비용이 목표와 다르면 로그인 시 재해시되어야 한다")
+    void login_RehashesWhenCostDiffers() {
+        // given
+        User user = new User("testuser", "테스트유저", "old_hash", Role.USER);
+        given(userRepository.findById("testuser")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password123", "old_hash")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("old_hash")).willReturn(true);
+        given(passwordEncoder.encode("password123")).willReturn("new_hash");
+        given(jwtTokenService.generateAccessToken(user)).willReturn("access_token");
+        given(jwtTokenService.generateRefreshToken(user)).willReturn("refresh_token");
+        
+        // when
+        TokenResponse response = userService.login(new LoginRequest("testuser", "password123"), "127.0.0.1");
+        
+        // then
+        assertThat(response.getAccessToken()).isEqualTo("access_token");
+        assertThat(user.getPassword()).isEqualTo("new_hash");
+    }
+    
+    @Test
+    @DisplayName("저장된 해시 비용이 목표와 같으면 재해시하지 않아야 한다")
+    void login_KeepsHashWhenCostMatches() {
+        // given
+        User user = new User("testuser", "테스트유저", "current_hash", Role.USER);
+        given(userRepository.findById("testuser")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password123", "current_hash")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("current_hash")).willReturn(false);
+        given(jwtTokenService.generateAccessToken(user)).willReturn("access_token");
+        given(jwtTokenService.generateRefreshToken(user)).willReturn("refresh_token");
+        
+        // when
+        userService.login(new LoginRequest("testuser", "password123"), "127.0.0.1");
+        
+        // then
+        assertThat(user.getPassword()).isEqualTo("current_hash");
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+    
+    @Test
+    @DisplayName("리프레시 토큰으로 재발급하면 기존 토큰은 폐기되어야 한다")
+    void refreshToken_RotatesToken() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        Claims claims = Jwts.claims()
+            .subject("testuser")
+            .id("jti-1")
+            .expiration(expiration)
+            .add("tokenType", "refresh")
+            .build();
+        given(jwtTokenService.validateToken("refresh_token")).willReturn(claims);
+        given(tokenRevocationStore.revoke("jti-1", expiration)).willReturn(true);
+        given(userRepository.findById("testuser")).willReturn(Optional.of(savedUser));
+        given(jwtTokenService.generateAccessToken(savedUser)).willReturn("new_access_token");
+        given(jwtTokenService.generateRefreshToken(savedUser)).willReturn("new_refresh_token");
+        
+        // when
+        TokenResponse response = userService.refreshToken("refresh_token");
+        
+        // then
+        assertThat(response.getRefreshToken()).isEqualTo("new_refresh_token");
+        verify(tokenRevocationStore).revoke("jti-1", expiration);
+    }
+    
+    @Test
+    @DisplayName("이미 회전된 리프레시 토큰은 거부되어야 한다")
+    void refreshToken_ReusedToken_ThrowsException() {
+        // given
+        Claims claims = Jwts.claims()
+            .subject("testuser")
+            .id("jti-1")
+            .expiration(new Date(System.currentTimeMillis() + 60000))
+            .add("tokenType", "refresh")
+            .build();
+        given(jwtTokenService.validateToken("refresh_token")).willReturn(claims);
+        given(tokenRevocationStore.isRevoked("jti-1")).willReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> userService.refreshToken("refresh_token"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("이미 사용되었거나 폐기된 리프레시 토큰입니다.");
+        verify(jwtTokenService, never()).generateRefreshToken(any(User.class));
+    }
+    
+    @Test
+    @DisplayName("로그아웃하면 사용자의 토큰이 모두 폐기되어야 한다")
+    void logout_RevokesUserTokens() {
+        // when
+        userService.logout("testuser");
+        
+        // then
+        verify(tokenRevocationStore).revokeAllForUser("testuser");
+    }
+    
+    @Test
+    @DisplayName("패스워드가 틀리면 실패가 기록되어야 한다")
+    void login_WrongPassword_RecordsFailure() {
+        // given
+        User user = new User("testuser", "테스트유저", "hash", Role.USER);
+        given(userRepository.findById("testuser")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("wrong", "hash")).willReturn(false);
+        
+        // when & then
+        assertThatThrownBy(() -> userService.login(new LoginRequest("testuser", "wrong"), "127.0.0.1"))
+            .isInstanceOf(InvalidCredentialsException.class);
+        verify(loginThrottle).recordFailure("testuser", "127.0.0.1");
+    }
+    
+    @Test
+    @DisplayName("차단된 계정은 패스워드 검증 없이 거부되어야 한다")
+    void login_Throttled_SkipsPasswordCheck() {
+        // given
+        willThrow(new TooManyLoginAttemptsException(30))
+            .given(loginThrottle).checkAllowed("testuser", "127.0.0.1");
+        
+        // when & then
+        assertThatThrownBy(() -> userService.login(new LoginRequest("testuser", "password123"), "127.0.0.1"))
+            .isInstanceOf(TooManyLoginAttemptsException.class);
+        verify(userRepository, never()).findById(anyString());
+        verify(passwordEncoder, never()).matches(any(), anyString());
+    }
+    
+    @Test
+    @DisplayName("사용자 정보는 누적된 통계 컬럼으로 조회되어야 한다")
+    void getUserInfo_UsesStoredStats() {
+        // given
+        User user = new User("testuser", "테스트유저", "hash", Role.USER);
+        ReflectionTestUtils.setField(user, "answerCount", 3L);
+        ReflectionTestUtils.setField(user, "receivedScoreSum", 22L);
+        ReflectionTestUtils.setField(user, "receivedScoreCount", 3L);
+        ReflectionTestUtils.setField(user, "evaluatedCount", 5L);
+        given(userRepository.findById("testuser")).willReturn(Optional.of(user));
+        
+        // when
+        UserInfoResponse response = userService.getUserInfo("testuser");
+        
+        // then
+        assertThat(response.getAnswerCount()).isEqualTo(3L);
+        assertThat(response.getAverageScore()).isEqualTo(7.3);
+        assertThat(response.getEvaluatedCount()).isEqualTo(5L);
+    }
+    
+    @Test
+    @DisplayName("ID 필터에 없는 ID는 DB 조회 없이 사용 가능해야 한다")
+    void isIdAvailable_FilterMiss_SkipsQuery() {
+        // given
+        given(userIdFilter.mightExist("newuser")).willReturn(false);
+        
+        // when
+        boolean available = userService.isIdAvailable("newuser");
+        
+        // then
+        assertThat(available).isTrue();
+        verify(userRepository, never()).existsById(anyString());
+    }
+    
+    @Test
+    @DisplayName("회원가입 성공 시 ID 필터에 추가되어야 한다")
+    void signup_AddsIdToFilter() {
+        // given
+        given(passwordEncoder.encode("password123")).willReturn("encrypted_password");
+        given(userRepository.save(any(User.class))).willReturn(savedUser);
+        
+        // when
+        userService.signup(signupRequest);
+        
+        // then
+        verify(userRepository, never()).existsById(anyString());
+        verify(userIdFilter).add("testuser");
+    }
+}
@@ -0,0 +1,184 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.infrastructure.questions.QuestionCopyRepository;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import bumaview.infrastructure.questions.QuestionRepository;
+import bumaview.presentation.questions.dto.QuestionUploadResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionCsvImporter 테스트")
+class QuestionCsvImporterTest {
+    
+    @Mock
+    private QuestionRepository questionRepository;
+    
+    @Mock
+    private QuestionCopyRepository questionCopyRepository;
+    
+    @Mock
+    private QuestionExportRepository questionExportRepository;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @InjectMocks
+    private QuestionCsvImporter questionCsvImporter;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(questionCsvImporter, "chunkSize", 2);
+        ReflectionTestUtils.setField(questionCsvImporter, "maxErrors", 1);
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+            .given(transactionTemplate).execute(any());
+    }
+    
+    @Test
+    @DisplayName("묶음마다 한 번씩 저장하고 등록 이벤트를 발행해야 한다")
+    void importCsv_SavesEachChunk() {
+        // given
+        String csv = "content,category,company,questionAt\n" +
+                "질문1,백엔드,네이버,2024\n" +
+                "질문2,백엔드,카카오,2024\n" +
+                "질문3,프론트엔드,토스,2023\n";
+        given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        
+        // when
+        QuestionUploadResult result = questionCsvImporter.importCsv(stream(csv));
+        
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        assertThat(result.getFailureCount()).isZero();
+        verify(questionRepository, times(2)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(QuestionsCreatedEvent.class));
+    }
+    
+    @Test
+    @DisplayName("유효하지 않은 행은 제외하고 오류 메시지는 최대 개수까지만 보관해야 한다")
+    void importCsv_InvalidRows_CapsErrors() {
+        // given
+        String csv = "content,category,company,questionAt\n" +
+                ",백엔드,네이버,2024\n" +
+                "질문2,백엔드,카카오,24\n" +
+                "질문3,프론트엔드,토스,2023\n";
+        given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        
+        // when
+        QuestionUploadResult result = questionCsvImporter.importCsv(stream(csv));
+        
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailureCount()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0)).startsWith("행 2:");
+        assertThat(result.getErrors().get(1)).contains("1건의 오류가 생략");
+    }
+    
+    @Test
+    @DisplayName("묶음 저장이 실패하면 행마다 다시 저장해 실패한 행만 제외해야 한다")
+    void importCsv_ChunkFailure_RetriesRowByRow() {
+        // given
+        String csv = "content,category,company,questionAt\n" +
+                "질문1,백엔드,네이버,2024\n" +
+                "질문2,백엔드,카카오,2024\n";
+        given(questionRepository.saveAll(anyList())).willThrow(new DataIntegrityViolationException("batch"));
+        given(questionRepository.saveAndFlush(any(Question.class)))
+            .willAnswer(invocation -> invocation.getArgument(0))
+            .willThrow(new IllegalStateException("저장 실패"));
+        
+        // when
+        QuestionUploadResult result = questionCsvImporter.importCsv(stream(csv));
+        
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("행 3: 저장 실패");
+        verify(eventPublisher).publishEvent(any(QuestionsCreatedEvent.class));
+    }
+    
+    @Test
+    @DisplayName("이미 등록된 질문과 파일 안에서 반복된 질문은 저장하지 않고 중복으로 세어야 한다")
+    void importCsv_Duplicates_SkippedAndCounted() {
+        // given
+        String csv = "content,category,company,questionAt\n" +
+                "기존 질문,백엔드,네이버,2024\n" +
+                "새 질문,백엔드,네이버,2024\n" +
+                "새  질문,백엔드,네이버,2024\n";
+        willAnswer(invocation -> {
+            invocation.<Consumer<String>>getArgument(0).accept(Question.fingerprint("기존 질문", "네이버", "백엔드", "2024"));
+            return null;
+        }).given(questionExportRepository).forEachFingerprint(any());
+        given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        
+        // when
+        QuestionUploadResult result = questionCsvImporter.importCsv(stream(csv));
+        
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getDuplicateCount()).isEqualTo(2);
+        assertThat(result.getFailureCount()).isZero();
+        verify(questionExportRepository, times(1)).forEachFingerprint(any());
+    }
+    
+    @Test
+    @DisplayName("COPY 방식은 같은 검증을 거친 유효한 행만 적재하고 대량 등록 이벤트를 발행해야 한다")
+    void importCsvWithCopy_WritesValidRows() {
+        // given
+        String csv = "content,category,company,questionAt\n" +
+                "질문1,백엔드,네이버,2024\n" +
+                "질문2,,카카오,2024\n" +
+                "질문3,프론트엔드,토스,2023\n";
+        QuestionCopyRepository.StagingWriter writer = mock(QuestionCopyRepository.StagingWriter.class);
+        given(questionCopyRepository.copyInsert(any())).willAnswer(invocation -> {
+            invocation.<Consumer<QuestionCopyRepository.StagingWriter>>getArgument(0).accept(writer);
+            return 2;
+        });
+        
+        // when
+        QuestionUploadResult result = questionCsvImporter.importCsvWithCopy(stream(csv));
+        
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        verify(writer, times(2)).write(any(Question.class));
+        verify(eventPublisher).publishEvent(any(QuestionsImportedEvent.class));
+    }
+    
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,74 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.QuestionExportFormat;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import bumaview.infrastructure.questions.QuestionExportRepository.QuestionRowHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionExportService 테스트")
+class QuestionExportServiceTest {
+    
+    @Mock
+    private QuestionExportRepository questionExportRepository;
+    
+    @InjectMocks
+    private QuestionExportService questionExportService;
+    
+    @Test
+    @DisplayName("CSV는 업로드와 같은 컬럼 순서로 쓰고 특수 문자가 있는 값만 따옴표로 감싸야 한다")
+    void export_Csv_WritesUploadCompatibleRows() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            QuestionRowHandler handler = invocation.getArgument(3);
+            handler.handle(1L, "자기소개를 해주세요", "네이버", "인성", "2024");
+            handler.handle(2L, "\"동시성\" 제어, 어떻게 하나요?\n예시 포함", "카카오", "백엔드", "2023");
+            return null;
+        }).given(questionExportRepository).forEachQuestion(isNull(), isNull(), isNull(), any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        
+        // when
+        questionExportService.export(null, null, null, QuestionExportFormat.CSV, outputStream);
+        
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "content,category,company,questionAt\n"
+                        + "자기소개를 해주세요,인성,네이버,2024\n"
+                        + "\"\"\"동시성\"\" 제어, 어떻게 하나요?\n예시 포함\",백엔드,카카오,2023\n");
+    }
+    
+    @Test
+    @DisplayName("NDJSON은 질문마다 한 줄의 JSON 객체를 써야 한다")
+    void export_Ndjson_WritesOneObjectPerLine() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            QuestionRowHandler handler = invocation.getArgument(3);
+            handler.handle(1L, "자기소개를 해주세요", "네이버", "인성", "2024");
+            handler.handle(2L, "줄바꿈\n포함", "네이버", "백엔드", "2024");
+            return null;
+        }).given(questionExportRepository).forEachQuestion(eq("네이버"), isNull(), isNull(), any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        
+        // when
+        questionExportService.export("네이버", null, null, QuestionExportFormat.NDJSON, outputStream);
+        
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "{\"id\":1,\"content\":\"자기소개를 해주세요\",\"company\":\"네이버\",\"category\":\"인성\",\"questionAt\":\"2024\"}",
+                "{\"id\":2,\"content\":\"줄바꿈\\n포함\",\"company\":\"네이버\",\"category\":\"백엔드\",\"questionAt\":\"2024\"}");
+    }
+}
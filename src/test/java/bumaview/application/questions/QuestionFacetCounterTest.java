@@ -0,0 +1,85 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.infrastructure.questions.QuestionRepository;
+import bumaview.presentation.questions.dto.QuestionFacetsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionFacetCounter 테스트")
+class QuestionFacetCounterTest {
+    
+    @Mock
+    private QuestionRepository questionRepository;
+    
+    @InjectMocks
+    private QuestionFacetCounter questionFacetCounter;
+    
+    @BeforeEach
+    void setUp() {
+        given(questionRepository.countGroupByFacets()).willReturn(List.of(
+            new Object[]{"네이버", "백엔드", "2023", 3L},
+            new Object[]{"카카오", "백엔드", "2024", 2L},
+            new Object[]{"네이버", "프론트엔드", "2024", 1L}
+        ));
+        questionFacetCounter.load();
+    }
+    
+    @Test
+    @DisplayName("시작 시 집계한 질문 수를 많은 순서로 반환해야 한다")
+    void getFacets_ReturnsLoadedCounts() {
+        // when
+        QuestionFacetsResponse facets = questionFacetCounter.getFacets();
+        
+        // then
+        assertThat(facets.getTotal()).isEqualTo(6);
+        assertThat(facets.getCompanies()).containsExactly(
+            entry("네이버", 4L),
+            entry("카카오", 2L));
+        assertThat(facets.getCategories()).containsEntry("백엔드", 5L).containsEntry("프론트엔드", 1L);
+        assertThat(facets.getYears()).containsEntry("2023", 3L).containsEntry("2024", 3L);
+        verify(questionRepository, times(1)).countGroupByFacets();
+    }
+    
+    @Test
+    @DisplayName("질문 등록/삭제 이벤트로 DB 조회 없이 집계가 갱신되어야 한다")
+    void onQuestionsEvents_UpdatesCounts() {
+        // when
+        questionFacetCounter.onQuestionsCreated(new QuestionsCreatedEvent(List.of(
+            question(10L, "토스", "백엔드", "2025"))));
+        questionFacetCounter.onQuestionsDeleted(new QuestionsDeletedEvent(List.of(
+            QuestionKey.of(question(5L, "네이버", "프론트엔드", "2024")))));
+        QuestionFacetsResponse facets = questionFacetCounter.getFacets();
+        
+        // then
+        assertThat(facets.getTotal()).isEqualTo(6);
+        assertThat(facets.getCompanies()).containsEntry("토스", 1L).containsEntry("네이버", 3L);
+        assertThat(facets.getCategories()).doesNotContainKey("프론트엔드");
+        assertThat(facets.getYears()).containsEntry("2024", 2L).containsEntry("2025", 1L);
+        verify(questionRepository, times(1)).countGroupByFacets();
+    }
+    
+    private static Question question(Long id, String company, String category, String questionAt) {
+        Question question = new Question("질문 내용", company, category, questionAt);
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+}
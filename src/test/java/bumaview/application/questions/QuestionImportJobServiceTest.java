@@ -0,0 +1,120 @@
+package bumaview.application.questions;
+
+import bumaview.common.exception.ServerBusyException;
+import bumaview.domain.questions.QuestionImportJobStatus;
+import bumaview.domain.questions.QuestionImportMode;
+import bumaview.domain.questions.exception.ImportJobNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionImportJobService 테스트")
+class QuestionImportJobServiceTest {
+    
+    @Mock
+    private QuestionCsvImporter questionCsvImporter;
+    
+    @InjectMocks
+    private QuestionImportJobService questionImportJobService;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(questionImportJobService, "threads", 1);
+        ReflectionTestUtils.setField(questionImportJobService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(questionImportJobService, "retention", Duration.ofHours(1));
+        ReflectionTestUtils.setField(questionImportJobService, "retryAfterSeconds", 30L);
+        questionImportJobService.init();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        questionImportJobService.shutdown();
+    }
+    
+    @Test
+    @DisplayName("등록한 작업은 백그라운드에서 실행되고 진행 상황을 조회할 수 있어야 한다")
+    void submit_RunsInBackground() throws Exception {
+        // given
+        given(questionCsvImporter.newProgress()).willAnswer(invocation -> new QuestionImportProgress(10));
+        willAnswer(invocation -> {
+            QuestionImportProgress progress = invocation.getArgument(1);
+            progress.addProcessed(2);
+            progress.addSuccess(2);
+            return null;
+        }).given(questionCsvImporter).importCsv(any(InputStream.class), any(QuestionImportProgress.class));
+        
+        // when
+        QuestionImportJob job = questionImportJobService.submit(csv(), QuestionImportMode.BATCH);
+        job.future().get(5, TimeUnit.SECONDS);
+        
+        // then
+        QuestionImportJob found = questionImportJobService.getJob(job.getId());
+        assertThat(found.getStatus()).isEqualTo(QuestionImportJobStatus.COMPLETED);
+        assertThat(found.getProgress().getSuccessCount()).isEqualTo(2);
+        assertThat(found.getFinishedAt()).isNotNull();
+        assertThat(Files.exists(job.file())).isFalse();
+    }
+    
+    @Test
+    @DisplayName("대기 중인 작업은 바로 취소되고, 대기열이 가득 차면 거절되어야 한다")
+    void cancel_QueuedJob_AndRejectWhenFull() throws Exception {
+        // given
+        given(questionCsvImporter.newProgress()).willAnswer(invocation -> new QuestionImportProgress(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(questionCsvImporter).importCsv(any(InputStream.class), any(QuestionImportProgress.class));
+        
+        QuestionImportJob running = questionImportJobService.submit(csv(), QuestionImportMode.BATCH);
+        started.await(5, TimeUnit.SECONDS);
+        QuestionImportJob queued = questionImportJobService.submit(csv(), QuestionImportMode.BATCH);
+        
+        // when & then
+        assertThatThrownBy(() -> questionImportJobService.submit(csv(), QuestionImportMode.BATCH))
+            .isInstanceOf(ServerBusyException.class);
+        
+        QuestionImportJob cancelled = questionImportJobService.cancel(queued.getId());
+        assertThat(cancelled.getStatus()).isEqualTo(QuestionImportJobStatus.CANCELLED);
+        assertThat(Files.exists(queued.file())).isFalse();
+        
+        release.countDown();
+        running.future().get(5, TimeUnit.SECONDS);
+        assertThat(running.getStatus()).isEqualTo(QuestionImportJobStatus.COMPLETED);
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 작업 조회 시 예외가 발생해야 한다")
+    void getJob_NotFound_ThrowsException() {
+        assertThatThrownBy(() -> questionImportJobService.getJob("unknown"))
+            .isInstanceOf(ImportJobNotFoundException.class);
+    }
+    
+    private static MockMultipartFile csv() {
+        return new MockMultipartFile("file", "questions.csv", "text/csv",
+            "content,category,company,questionAt\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+package bumaview.application.questions;
+
+import bumaview.common.pagination.CursorPage;
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.presentation.questions.dto.QuestionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QuestionListCache 테스트")
+class QuestionListCacheTest {
+    
+    private QuestionListCache questionListCache;
+    private AtomicInteger loadCount;
+    
+    @BeforeEach
+    void setUp() {
+        questionListCache = new QuestionListCache();
+        ReflectionTestUtils.setField(questionListCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(questionListCache, "expireAfterWrite", Duration.ofMinutes(10));
+        questionListCache.init();
+        loadCount = new AtomicInteger();
+    }
+    
+    @Test
+    @DisplayName("같은 조건의 두 번째 조회는 캐시에서 반환되어야 한다")
+    void get_SameKey_LoadsOnce() {
+        // when
+        get("네이버", null, null);
+        get("네이버", null, null);
+        
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(questionListCache.getHitCount()).isEqualTo(1);
+        assertThat(questionListCache.getMissCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("질문 등록 시 조건이 맞는 첫 페이지만 제거되어야 한다")
+    void onQuestionsCreated_InvalidatesMatchingFirstPages() {
+        // given
+        get(null, null, null);
+        get("네이버", null, null);
+        get("카카오", null, null);
+        get("네이버", null, 50L);
+        
+        // when
+        questionListCache.onQuestionsCreated(new QuestionsCreatedEvent(List.of(question(100L, "네이버"))));
+        
+        // then
+        loadCount.set(0);
+        get(null, null, null);
+        get("네이버", null, null);
+        assertThat(loadCount.get()).isEqualTo(2);
+        
+        get("카카오", null, null);
+        get("네이버", null, 50L);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("늦게 커밋된 작은 ID의 질문이 등록되면 그 ID를 포함하는 커서 페이지도 제거되어야 한다")
+    void onQuestionsCreated_OutOfOrderCommit_InvalidatesCursorPage() {
+        // given
+        get("네이버", null, 50L);
+        get("네이버", null, 30L);
+        
+        // when
+        questionListCache.onQuestionsCreated(new QuestionsCreatedEvent(List.of(question(40L, "네이버"))));
+        
+        // then
+        loadCount.set(0);
+        get("네이버", null, 50L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        
+        get("네이버", null, 30L);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("질문 삭제 시 삭제된 질문이 포함될 수 있는 페이지만 제거되어야 한다")
+    void onQuestionsDeleted_InvalidatesPagesAfterCursor() {
+        // given
+        get("네이버", null, null);
+        get("네이버", null, 50L);
+        get("네이버", null, 30L);
+        
+        // when
+        questionListCache.onQuestionsDeleted(new QuestionsDeletedEvent(List.of(QuestionKey.of(question(40L, "네이버")))));
+        
+        // then
+        loadCount.set(0);
+        get("네이버", null, null);
+        get("네이버", null, 50L);
+        assertThat(loadCount.get()).isEqualTo(2);
+        
+        get("네이버", null, 30L);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+    
+    private CursorPage<QuestionResponse> get(String company, String category, Long afterId) {
+        return questionListCache.get(company, category, null, afterId, 20, () -> {
+            loadCount.incrementAndGet();
+            return new CursorPage<>(List.of(), null);
+        });
+    }
+    
+    private static Question question(Long id, String company) {
+        Question question = new Question("질문 내용", company, "백엔드", "2024");
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+}
@@ -0,0 +1,151 @@
+package bumaview.application.questions;
+
+import bumaview.domain.answers.event.AnswerCreatedEvent;
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.event.QuestionsImportedEvent;
+import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionSampler 테스트")
+class QuestionSamplerTest {
+    
+    @Mock
+    private QuestionExportRepository questionExportRepository;
+    
+    @Mock
+    private AnswerRepository answerRepository;
+    
+    @InjectMocks
+    private QuestionSampler questionSampler;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(questionSampler, "answeredCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(questionSampler, "answeredCacheExpireAfterAccess", Duration.ofMinutes(5));
+        questionSampler.init();
+        
+        // 1~10번: 짝수는 네이버, 홀수는 카카오
+        List<QuestionKey> questions = new ArrayList<>();
+        LongStream.rangeClosed(1, 10).forEach(id -> questions.add(
+            QuestionKey.of(question(id, id % 2 == 0 ? "네이버" : "카카오", "백엔드", "2024"))));
+        stubQuestions(questions);
+        questionSampler.load();
+    }
+    
+    @Test
+    @DisplayName("답변하지 않은 질문만 중복 없이 뽑아야 한다")
+    void sample_ExcludesAnswered() {
+        // given
+        given(answerRepository.findAnsweredQuestionIds("user")).willReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+        
+        // when
+        List<Long> picked = questionSampler.sample(null, null, null, "user", 5);
+        
+        // then - 남은 후보가 2개뿐이므로 2개만 반환
+        assertThat(picked).containsExactlyInAnyOrder(9L, 10L);
+    }
+    
+    @Test
+    @DisplayName("조건에 맞는 질문에서만 뽑아야 한다")
+    void sample_AppliesFilter() {
+        // given
+        given(answerRepository.findAnsweredQuestionIds("user")).willReturn(List.of());
+        
+        // when
+        List<Long> picked = questionSampler.sample("네이버", "백엔드", null, "user", 3);
+        
+        // then
+        assertThat(picked).hasSize(3).doesNotHaveDuplicates().allMatch(id -> id % 2 == 0);
+    }
+    
+    @Test
+    @DisplayName("답변 등록 이벤트 후에는 해당 질문이 제외되어야 한다")
+    void onAnswerCreated_UpdatesCachedAnswered() {
+        // given
+        given(answerRepository.findAnsweredQuestionIds("user")).willReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+        assertThat(questionSampler.sample(null, null, null, "user", 5)).containsExactly(10L);
+        
+        // when
+        questionSampler.onAnswerCreated(new AnswerCreatedEvent(100L, 10L, "user"));
+        
+        // then
+        assertThat(questionSampler.sample(null, null, null, "user", 5)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("int 범위를 넘는 질문 ID도 답변 여부를 구분해야 한다")
+    void sample_HandlesIdsBeyondIntRange() {
+        // given
+        long large = Integer.MAX_VALUE + 10L;
+        questionSampler.onQuestionsCreated(new QuestionsCreatedEvent(List.of(
+            question(large, "토스", "백엔드", "2024"), question(large + 1, "토스", "백엔드", "2024"))));
+        given(answerRepository.findAnsweredQuestionIds("user")).willReturn(List.of(large));
+        
+        // when
+        List<Long> picked = questionSampler.sample("토스", null, null, "user", 5);
+        
+        // then
+        assertThat(picked).containsExactly(large + 1);
+    }
+    
+    @Test
+    @DisplayName("재구성 중에 들어온 등록/삭제도 새 목록에 반영되어야 한다")
+    void load_ReplaysChangesDuringRebuild() {
+        // given - 재구성 도중 11번 등록, 1~9번 삭제
+        given(answerRepository.findAnsweredQuestionIds("user")).willReturn(List.of());
+        willAnswer(invocation -> {
+            Consumer<QuestionKey> handler = invocation.getArgument(0);
+            LongStream.rangeClosed(1, 10).forEach(id -> handler.accept(
+                QuestionKey.of(question(id, "네이버", "백엔드", "2024"))));
+            questionSampler.onQuestionsCreated(new QuestionsCreatedEvent(List.of(
+                question(11L, "네이버", "백엔드", "2024"))));
+            questionSampler.onQuestionsDeleted(new QuestionsDeletedEvent(LongStream.rangeClosed(1, 9)
+                .mapToObj(id -> QuestionKey.of(question(id, "네이버", "백엔드", "2024")))
+                .toList()));
+            return null;
+        }).given(questionExportRepository).forEachQuestionKey(any());
+        
+        // when
+        questionSampler.onQuestionsImported(new QuestionsImportedEvent(11));
+        
+        // then
+        assertThat(questionSampler.sample(null, null, null, "user", 5)).containsExactlyInAnyOrder(10L, 11L);
+    }
+    
+    private void stubQuestions(List<QuestionKey> questions) {
+        willAnswer(invocation -> {
+            Consumer<QuestionKey> handler = invocation.getArgument(0);
+            questions.forEach(handler);
+            return null;
+        }).given(questionExportRepository).forEachQuestionKey(any());
+    }
+    
+    private static Question question(Long id, String company, String category, String questionAt) {
+        Question question = new Question("질문 " + id, company, category, questionAt);
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+}
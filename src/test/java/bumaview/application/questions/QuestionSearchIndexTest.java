@@ -0,0 +1,125 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.Question;
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsCreatedEvent;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.infrastructure.questions.QuestionExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionSearchIndex 테스트")
+class QuestionSearchIndexTest {
+    
+    @Mock
+    private QuestionExportRepository questionExportRepository;
+    
+    @InjectMocks
+    private QuestionSearchIndex questionSearchIndex;
+    
+    @BeforeEach
+    void setUp() {
+        stubQuestions(List.of(
+            question(1L, "스프링의 트랜잭션 전파 속성을 설명해주세요.", "네이버", "백엔드", "2023"),
+            question(2L, "트랜잭션 격리 수준과 트랜잭션 이상 현상을 설명해주세요.", "카카오", "백엔드", "2024"),
+            question(3L, "React의 상태 관리 방법을 설명해주세요.", "네이버", "프론트엔드", "2024")
+        ));
+        questionSearchIndex.load();
+    }
+    
+    @Test
+    @DisplayName("검색어의 모든 bigram을 포함한 질문만 BM25 순으로 반환해야 한다")
+    void search_RanksByBm25() {
+        // when
+        List<Long> ids = questionSearchIndex.search("트랜잭션", null, null, null);
+        
+        // then - 트랜잭션이 두 번 나오는 2번이 먼저
+        assertThat(ids).containsExactly(2L, 1L);
+        assertThat(questionSearchIndex.search("트랜잭션 격리", null, null, null)).containsExactly(2L);
+        assertThat(questionSearchIndex.search("react", null, null, null)).containsExactly(3L);
+    }
+    
+    @Test
+    @DisplayName("회사/카테고리/년도 조건을 색인 안에서 함께 적용해야 한다")
+    void search_AppliesFilters() {
+        assertThat(questionSearchIndex.search("설명해주세요", "네이버", null, null)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(questionSearchIndex.search("설명해주세요", null, "백엔드", "2024")).containsExactly(2L);
+    }
+    
+    @Test
+    @DisplayName("등록/삭제 이벤트로 색인이 갱신되어야 한다")
+    void events_UpdateIndex() {
+        // when
+        questionSearchIndex.onQuestionsCreated(new QuestionsCreatedEvent(List.of(
+            question(4L, "트랜잭션 롤백 규칙은?", "토스", "백엔드", "2025"))));
+        questionSearchIndex.onQuestionsDeleted(new QuestionsDeletedEvent(List.of(
+            QuestionKey.of(question(2L, "트랜잭션 격리 수준과 트랜잭션 이상 현상을 설명해주세요.", "카카오", "백엔드", "2024")))));
+        
+        // then
+        assertThat(questionSearchIndex.search("트랜잭션", null, null, null)).containsExactlyInAnyOrder(1L, 4L);
+    }
+    
+    @Test
+    @DisplayName("재색인 중에 들어온 등록/삭제는 교체된 색인에도 반영되어야 한다")
+    void load_AppliesChangesMadeDuringRebuild() {
+        // given: 재색인이 질문을 읽는 도중 다른 트랜잭션의 등록/삭제 이벤트가 도착
+        willAnswer(invocation -> {
+            QuestionExportRepository.QuestionRowHandler handler = invocation.getArgument(3);
+            handler.handle(1L, "스프링의 트랜잭션 전파 속성을 설명해주세요.", "네이버", "백엔드", "2023");
+            handler.handle(2L, "트랜잭션 격리 수준과 트랜잭션 이상 현상을 설명해주세요.", "카카오", "백엔드", "2024");
+            questionSearchIndex.onQuestionsCreated(new QuestionsCreatedEvent(List.of(
+                question(5L, "트랜잭션 전파와 격리의 차이는?", "토스", "백엔드", "2025"))));
+            questionSearchIndex.onQuestionsDeleted(new QuestionsDeletedEvent(List.of(
+                QuestionKey.of(question(2L, "트랜잭션 격리 수준과 트랜잭션 이상 현상을 설명해주세요.", "카카오", "백엔드", "2024")))));
+            // 재색인 중에도 기존 색인으로 검색 가능
+            assertThat(questionSearchIndex.search("react", null, null, null)).containsExactly(3L);
+            return null;
+        }).given(questionExportRepository).forEachQuestion(isNull(), isNull(), isNull(), any());
+        
+        // when
+        questionSearchIndex.load();
+        
+        // then
+        assertThat(questionSearchIndex.search("트랜잭션", null, null, null)).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(questionSearchIndex.search("react", null, null, null)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("한 글자 단어가 포함된 검색어는 색인으로 처리하지 않아야 한다")
+    void isSearchable() {
+        assertThat(QuestionSearchIndex.isSearchable("트랜잭션")).isTrue();
+        assertThat(QuestionSearchIndex.isSearchable("트")).isFalse();
+        assertThat(QuestionSearchIndex.isSearchable("  ")).isFalse();
+    }
+    
+    private void stubQuestions(List<Question> questions) {
+        willAnswer(invocation -> {
+            QuestionExportRepository.QuestionRowHandler handler = invocation.getArgument(3);
+            for (Question question : questions) {
+                handler.handle(question.getId(), question.getContent(),
+                    question.getCompany(), question.getCategory(), question.getQuestionAt());
+            }
+            return null;
+        }).given(questionExportRepository).forEachQuestion(isNull(), isNull(), isNull(), any());
+    }
+    
+    private static Question question(Long id, String content, String company, String category, String questionAt) {
+        Question question = new Question(content, company, category, questionAt);
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+}
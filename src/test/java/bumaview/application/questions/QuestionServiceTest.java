@@ -0,0 +1,113 @@
+package bumaview.application.questions;
+
+import bumaview.domain.questions.QuestionKey;
+import bumaview.domain.questions.event.QuestionsDeletedEvent;
+import bumaview.domain.questions.exception.QuestionFilterRequiredException;
+import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.infrastructure.auth.UserRepository;
+import bumaview.infrastructure.questions.QuestionRepository;
+import bumaview.infrastructure.scores.ScoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionService 테스트")
+class QuestionServiceTest {
+    
+    @Mock
+    private QuestionRepository questionRepository;
+    
+    @Mock
+    private AnswerRepository answerRepository;
+    
+    @Mock
+    private ScoreRepository scoreRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @InjectMocks
+    private QuestionService questionService;
+    
+    @Test
+    @DisplayName("조건 없이 일괄 삭제를 요청하면 예외가 발생해야 한다")
+    void deleteQuestions_WithoutFilter_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> questionService.deleteQuestions(null, null, null))
+            .isInstanceOf(QuestionFilterRequiredException.class);
+        verifyNoInteractions(questionRepository, answerRepository, scoreRepository, userRepository);
+    }
+    
+    @Test
+    @DisplayName("일괄 삭제는 통계 갱신 후 평가, 답변, 질문 순으로 묶음 단위 DELETE를 실행해야 한다")
+    void deleteQuestions_DeletesInChunks() {
+        // given
+        List<QuestionKey> questions = LongStream.rangeClosed(1, 1500).mapToObj(QuestionServiceTest::question).toList();
+        given(questionRepository.findKeysByFilters(null, null, "2020")).willReturn(questions);
+        
+        // when
+        int deletedCount = questionService.deleteQuestions(null, null, "2020");
+        
+        // then
+        assertThat(deletedCount).isEqualTo(1500);
+        
+        InOrder order = inOrder(userRepository, scoreRepository, answerRepository, questionRepository);
+        order.verify(userRepository).subtractEvaluatedCountByQuestionIds(anyCollection());
+        order.verify(userRepository).subtractAnswerStatsByQuestionIds(anyCollection());
+        order.verify(scoreRepository).deleteAllByQuestionIds(anyCollection());
+        order.verify(answerRepository).deleteAllByQuestionIds(anyCollection());
+        order.verify(questionRepository).deleteAllByIdInBatch(any());
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> chunks = ArgumentCaptor.forClass(Iterable.class);
+        verify(questionRepository, times(2)).deleteAllByIdInBatch(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(chunk -> ((List<Long>) chunk).size()).containsExactly(1000, 500);
+        
+        ArgumentCaptor<QuestionsDeletedEvent> event = ArgumentCaptor.forClass(QuestionsDeletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getQuestions()).hasSize(1500);
+    }
+    
+    @Test
+    @DisplayName("조건에 맞는 질문이 없으면 삭제와 이벤트 없이 0을 반환해야 한다")
+    void deleteQuestions_NoMatch_ReturnsZero() {
+        // given
+        given(questionRepository.findKeysByFilters("없는회사", null, null)).willReturn(List.of());
+        
+        // when
+        int deletedCount = questionService.deleteQuestions("없는회사", null, null);
+        
+        // then
+        assertThat(deletedCount).isZero();
+        verify(questionRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    private static QuestionKey question(long id) {
+        return new QuestionKey(id, "네이버", "백엔드", "2020");
+    }
+}
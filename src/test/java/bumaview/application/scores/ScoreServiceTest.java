@@ -0,0 +1,94 @@
+package bumaview.application.scores;
+
+import bumaview.domain.answers.Answer;
+import bumaview.domain.auth.Role;
+import bumaview.domain.auth.User;
+import bumaview.domain.scores.Score;
+import bumaview.infrastructure.answers.AnswerRepository;
+import bumaview.infrastructure.auth.UserRepository;
+import bumaview.infrastructure.scores.ScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoreService 테스트")
+class ScoreServiceTest {
+    
+    @Mock
+    private ScoreRepository scoreRepository;
+    
+    @Mock
+    private AnswerRepository answerRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @InjectMocks
+    private ScoreService scoreService;
+    
+    private Answer answer;
+    private User evaluator;
+    
+    @BeforeEach
+    void setUp() {
+        User author = new User("author", "작성자", "password", Role.USER);
+        evaluator = new User("evaluator", "평가자", "password", Role.USER);
+        answer = new Answer(null, author, "답변", 60);
+        ReflectionTestUtils.setField(answer, "id", 1L);
+        given(answerRepository.findById(1L)).willReturn(Optional.of(answer));
+        given(userRepository.findById("evaluator")).willReturn(Optional.of(evaluator));
+    }
+    
+    @Test
+    @DisplayName("첫 평가는 평가 수와 점수 합계를 함께 증가시켜야 한다")
+    void createScore_FirstEvaluation_AddsCount() {
+        // given
+        given(scoreRepository.findForUpdate(1L, "evaluator")).willReturn(Optional.empty());
+        given(scoreRepository.save(any(Score.class))).willAnswer(invocation -> invocation.getArgument(0));
+        
+        // when
+        Score score = scoreService.createScore(1L, "evaluator", 7, "좋아요");
+        
+        // then
+        assertThat(score.getScore()).isEqualTo(7);
+        verify(userRepository).addReceivedScore("author", 7, 1);
+        verify(userRepository).addEvaluatedCount("evaluator", 1);
+        verify(answerRepository).addScore(1L, 7, 1);
+    }
+    
+    @Test
+    @DisplayName("재평가는 잠근 기존 평가 행의 점수와의 차이만 통계에 반영해야 한다")
+    void createScore_Reevaluation_AppliesDeltaFromLockedRow() {
+        // given: 다른 트랜잭션이 먼저 5 -> 7로 재평가해 커밋한 뒤 잠금을 얻음
+        Score existing = new Score(answer, evaluator, "보통", 7);
+        given(scoreRepository.findForUpdate(1L, "evaluator")).willReturn(Optional.of(existing));
+        
+        // when
+        Score score = scoreService.createScore(1L, "evaluator", 3, "아쉬워요");
+        
+        // then
+        assertThat(score).isSameAs(existing);
+        assertThat(score.getScore()).isEqualTo(3);
+        assertThat(score.getContent()).isEqualTo("아쉬워요");
+        verify(userRepository).addReceivedScore("author", -4, 0);
+        verify(answerRepository).addScore(1L, -4, 0);
+        verify(userRepository, never()).addEvaluatedCount(anyString(), anyLong());
+        verify(scoreRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,204 @@
+package bumaview.application.sessions;
+
+import bumaview.application.answers.AnswerService;
+import bumaview.application.questions.QuestionService;
+import bumaview.domain.answers.Answer;
+import bumaview.domain.questions.Question;
+import bumaview.domain.sessions.InterviewSessionStatus;
+import bumaview.domain.sessions.exception.SessionNotFoundException;
+import bumaview.domain.sessions.exception.SessionQuestionMismatchException;
+import bumaview.presentation.answers.dto.AnswerCreateRequest;
+import bumaview.presentation.sessions.dto.InterviewSessionResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InterviewSessionService 테스트")
+class InterviewSessionServiceTest {
+    
+    @Mock
+    private QuestionService questionService;
+    
+    @Mock
+    private AnswerService answerService;
+    
+    @InjectMocks
+    private InterviewSessionService interviewSessionService;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interviewSessionService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(interviewSessionService, "expireAfterAccess", Duration.ofHours(1));
+        ReflectionTestUtils.setField(interviewSessionService, "maxQuestions", 20);
+        ReflectionTestUtils.setField(interviewSessionService, "defaultTimeLimit", Duration.ofMinutes(3));
+        ReflectionTestUtils.setField(interviewSessionService, "maxTimeLimit", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(interviewSessionService, "timerTick", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(interviewSessionService, "timerWheelSize", 64);
+        ReflectionTestUtils.setField(interviewSessionService, "flushThreads", 1);
+        ReflectionTestUtils.setField(interviewSessionService, "shutdownTimeout", Duration.ofSeconds(5));
+        interviewSessionService.init();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        interviewSessionService.shutdown();
+    }
+    
+    @Test
+    @DisplayName("마지막 질문에 답하면 세션이 종료되고 답변이 한 번에 저장되어야 한다")
+    void submitAnswer_LastQuestion_FlushesAnswers() {
+        // given
+        given(questionService.getRandomQuestions(null, "백엔드", null, "user1", 2))
+            .willReturn(List.of(question(1L), question(2L)));
+        given(answerService.saveAnswers(eq("user1"), any())).willReturn(List.of(answer(100L), answer(101L)));
+        InterviewSessionResponse started = interviewSessionService.start("user1", null, "백엔드", null, 2, null);
+        
+        // when
+        interviewSessionService.submitAnswer(started.getId(), "user1", 1L, "첫 번째 답변");
+        InterviewSessionResponse finished = interviewSessionService.submitAnswer(started.getId(), "user1", 2L, "두 번째 답변");
+        
+        // then
+        assertThat(finished.getStatus()).isEqualTo(InterviewSessionStatus.FINISHED);
+        assertThat(finished.getAnsweredCount()).isEqualTo(2);
+        assertThat(finished.getSavedAnswerIds()).containsExactly(100L, 101L);
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AnswerCreateRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(answerService).saveAnswers(eq("user1"), requests.capture());
+        assertThat(requests.getValue()).extracting(AnswerCreateRequest::getQuestionId).containsExactly(1L, 2L);
+        assertThat(requests.getValue()).allSatisfy(request -> assertThat(request.getTime()).isPositive());
+    }
+    
+    @Test
+    @DisplayName("제한 시간이 지나면 질문을 건너뛰고, 모든 질문이 끝나면 답한 것만 저장해야 한다")
+    void deadline_SkipsQuestionAndFinishes() {
+        // given
+        given(questionService.getRandomQuestions(null, null, null, "user1", 2))
+            .willReturn(List.of(question(1L), question(2L)));
+        given(answerService.saveAnswers(eq("user1"), any())).willReturn(List.of(answer(100L)));
+        InterviewSessionResponse started = interviewSessionService.start("user1", null, null, null, 2, 1);
+        interviewSessionService.submitAnswer(started.getId(), "user1", 1L, "첫 번째 답변");
+        
+        // when (두 번째 질문은 답하지 않고 제한 시간 1초가 지남)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AnswerCreateRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(answerService, timeout(3000)).saveAnswers(eq("user1"), requests.capture());
+        
+        // then
+        assertThat(requests.getValue()).extracting(AnswerCreateRequest::getQuestionId).containsExactly(1L);
+        InterviewSessionResponse session = interviewSessionService.getSession(started.getId(), "user1");
+        assertThat(session.getSkippedCount()).isEqualTo(1);
+        assertThat(session.getCurrentQuestionIndex()).isNull();
+    }
+    
+    @Test
+    @DisplayName("현재 질문이 아닌 질문에 답하거나 다른 사용자의 세션에 접근하면 예외가 발생해야 한다")
+    void submitAnswer_InvalidRequest_ThrowsException() {
+        // given
+        given(questionService.getRandomQuestions(null, null, null, "user1", 2))
+            .willReturn(List.of(question(1L), question(2L)));
+        InterviewSessionResponse started = interviewSessionService.start("user1", null, null, null, 2, null);
+        
+        // when & then
+        assertThatThrownBy(() -> interviewSessionService.submitAnswer(started.getId(), "user1", 2L, "답변"))
+            .isInstanceOf(SessionQuestionMismatchException.class);
+        assertThatThrownBy(() -> interviewSessionService.getSession(started.getId(), "user2"))
+            .isInstanceOf(SessionNotFoundException.class);
+        verify(answerService, never()).saveAnswers(any(), any());
+    }
+    
+    @Test
+    @DisplayName("답변을 저장하는 동안 세션 잠금을 잡고 있지 않아야 한다")
+    void finish_DoesNotHoldSessionLockWhileSaving() throws Exception {
+        // given
+        given(questionService.getRandomQuestions(null, null, null, "user1", 2))
+            .willReturn(List.of(question(1L), question(2L)));
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(answerService.saveAnswers(eq("user1"), any())).willAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(answer(100L));
+        });
+        InterviewSessionResponse started = interviewSessionService.start("user1", null, null, null, 2, null);
+        interviewSessionService.submitAnswer(started.getId(), "user1", 1L, "첫 번째 답변");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        
+        try {
+            // when
+            Future<InterviewSessionResponse> finishing = executor.submit(
+                () -> interviewSessionService.finish(started.getId(), "user1"));
+            assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+            
+            // then: 저장이 끝나지 않았어도 조회는 막히지 않고 저장 중 상태를 반환
+            Future<InterviewSessionResponse> reading = executor.submit(
+                () -> interviewSessionService.getSession(started.getId(), "user1"));
+            assertThat(reading.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo(InterviewSessionStatus.FINISHING);
+            
+            release.countDown();
+            assertThat(finishing.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(InterviewSessionStatus.FINISHED);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("서버 종료 시 진행 중인 세션의 답변을 저장해야 한다")
+    void shutdown_FlushesInProgressSessions() {
+        // given
+        given(questionService.getRandomQuestions(null, null, null, "user1", 2))
+            .willReturn(List.of(question(1L), question(2L)));
+        given(answerService.saveAnswers(eq("user1"), any())).willReturn(List.of(answer(100L)));
+        InterviewSessionResponse started = interviewSessionService.start("user1", null, null, null, 2, null);
+        interviewSessionService.submitAnswer(started.getId(), "user1", 1L, "첫 번째 답변");
+        
+        // when
+        interviewSessionService.shutdown();
+        
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AnswerCreateRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(answerService).saveAnswers(eq("user1"), requests.capture());
+        assertThat(requests.getValue()).extracting(AnswerCreateRequest::getQuestionId).containsExactly(1L);
+        assertThat(interviewSessionService.getSession(started.getId(), "user1").getStatus())
+            .isEqualTo(InterviewSessionStatus.FINISHED);
+    }
+    
+    private static Question question(Long id) {
+        Question question = new Question("질문 " + id, "네이버", "백엔드", "2024");
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+    
+    private static Answer answer(Long id) {
+        Answer answer = new Answer(null, null, "답변", 1);
+        ReflectionTestUtils.setField(answer, "id", id);
+        return answer;
+    }
+}
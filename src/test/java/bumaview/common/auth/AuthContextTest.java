@@ -0,0 +1,110 @@
+package bumaview.common.auth;
+
+import bumaview.application.auth.JwtTokenService;
+import bumaview.application.auth.TokenRevocationStore;
+import bumaview.domain.auth.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthContext 테스트")
+class AuthContextTest {
+    
+    @Mock
+    private JwtTokenService jwtTokenService;
+    
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+    
+    @InjectMocks
+    private AuthContext authContext;
+    
+    private MockHttpServletRequest request;
+    
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+    
+    @Test
+    @DisplayName("한 요청에서 토큰은 한 번만 검증되어야 한다")
+    void tokenValidatedOncePerRequest() {
+        // given
+        request.addHeader("Authorization", "Bearer access_token");
+        Claims claims = Jwts.claims().subject("testuser").add("role", "ADMIN").build();
+        given(jwtTokenService.validateToken("access_token")).willReturn(claims);
+        
+        // when
+        String userId = authContext.getCurrentUserId();
+        Role role = authContext.getCurrentUserRole();
+        
+        // then
+        assertThat(userId).isEqualTo("testuser");
+        assertThat(role).isEqualTo(Role.ADMIN);
+        verify(jwtTokenService, times(1)).validateToken("access_token");
+    }
+    
+    @Test
+    @DisplayName("AuthAspect가 저장한 인증 주체가 있으면 토큰을 다시 검증하지 않아야 한다")
+    void reusesPrincipalFromRequestAttribute() {
+        // given
+        request.setAttribute(AuthPrincipal.REQUEST_ATTRIBUTE, new AuthPrincipal("testuser", Role.USER));
+        
+        // when
+        AuthPrincipal principal = authContext.getCurrentPrincipal();
+        
+        // then
+        assertThat(principal.getUserId()).isEqualTo("testuser");
+        assertThat(principal.getRole()).isEqualTo(Role.USER);
+        verify(jwtTokenService, never()).validateToken(anyString());
+    }
+    
+    @Test
+    @DisplayName("토큰이 없으면 예외가 발생해야 한다")
+    void missingToken_ThrowsException() {
+        assertThatThrownBy(() -> authContext.getCurrentUserId())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("토큰이 없습니다.");
+        assertThat(authContext.getCurrentUserIdSafely()).isNull();
+    }
+    
+    @Test
+    @DisplayName("로그아웃 이전에 발급된 토큰은 거부되어야 한다")
+    void revokedToken_ThrowsJwtException() {
+        // given
+        request.addHeader("Authorization", "Bearer access_token");
+        Claims claims = Jwts.claims().subject("testuser").add("role", "USER").build();
+        given(jwtTokenService.validateToken("access_token")).willReturn(claims);
+        given(tokenRevocationStore.isRevokedForUser("testuser", null)).willReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> authContext.authenticate(request))
+                .isInstanceOf(JwtException.class);
+        assertThat(request.getAttribute(AuthPrincipal.REQUEST_ATTRIBUTE)).isNull();
+    }
+}
\ No newline at end of file
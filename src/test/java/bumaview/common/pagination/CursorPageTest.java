@@ -0,0 +1,63 @@
+package bumaview.common.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorPage / CursorCodec 테스트")
+class CursorPageTest {
+    
+    @Test
+    @DisplayName("limit보다 하나 더 조회되면 잘라내고 마지막 항목의 커서를 반환해야 한다")
+    void of_WithExtraItem_HasNext() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(30L, 20L, 10L), 2, CursorCodec::encodeId);
+        
+        // then
+        assertThat(page.getItems()).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(CursorCodec.decodeId(page.getNextCursor())).isEqualTo(20L);
+    }
+    
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없어야 한다")
+    void of_LastPage_NoCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(10L), 2, CursorCodec::encodeId);
+        
+        assertThat(page.getItems()).containsExactly(10L);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasNext()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 잘못된 커서는 예외가 발생해야 한다")
+    void decode() {
+        assertThat(CursorCodec.decodeId(null)).isNull();
+        assertThat(CursorCodec.decodeOffset(null)).isZero();
+        assertThat(CursorCodec.decodeOffset(CursorCodec.encodeOffset(40))).isEqualTo(40);
+        
+        assertThatThrownBy(() -> CursorCodec.decodeId("not-a-cursor!"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decodeId(CursorCodec.encodeOffset(40)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("점수 커서는 점수와 ID를 그대로 복원하고 다른 종류의 커서는 거부해야 한다")
+    void decodeScore() {
+        CursorCodec.ScoreCursor cursor = CursorCodec.decodeScore(CursorCodec.encodeScore(7.333333333333333, 42L));
+        
+        assertThat(cursor.getScore()).isEqualTo(7.333333333333333);
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(CursorCodec.decodeScore(null)).isNull();
+        
+        assertThatThrownBy(() -> CursorCodec.decodeScore(CursorCodec.encodeId(42L)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decodeId(CursorCodec.encodeScore(7.5, 42L)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
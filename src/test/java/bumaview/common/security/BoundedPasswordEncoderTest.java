@@ -0,0 +1,120 @@
+package bumaview.common.security;
+
+import bumaview.common.exception.ServerBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+    
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+    
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+    
+    @Test
+    @DisplayName("해시 결과는 위임 인코더의 결과와 같아야 한다")
+    void encodeAndMatches_DelegatesToEncoder() {
+        // given
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(), 1, 1, 1);
+        
+        // when
+        String encoded = encoder.encode("password123");
+        
+        // then
+        assertThat(encoded).isEqualTo("{plain}password123");
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("일괄 해시는 입력 순서대로 결과를 반환해야 한다")
+    void encodeAll_PreservesOrder() {
+        // given - 대기열보다 많은 패스워드
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(), 4, 8, 1);
+        List<String> passwords = IntStream.range(0, 100).mapToObj(i -> "password" + i).toList();
+        
+        // when
+        List<String> encoded = encoder.encodeAll(passwords);
+        
+        // then
+        assertThat(encoded).hasSize(100);
+        assertThat(encoded.get(0)).isEqualTo("{plain}password0");
+        assertThat(encoded.get(99)).isEqualTo("{plain}password99");
+    }
+    
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 ServerBusyException이 발생해야 한다")
+    void queueFull_ThrowsServerBusyException() throws Exception {
+        // given - 스레드 1개, 대기열 1개
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 3);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitUntilQueued();
+        
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("third"))
+            .isInstanceOf(ServerBusyException.class)
+            .satisfies(e -> assertThat(((ServerBusyException) e).getRetryAfterSeconds()).isEqualTo(3));
+        
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+    
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (encoder.getQueueSize() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(encoder.getQueueSize()).isEqualTo(1);
+    }
+    
+    private static class PlainEncoder implements PasswordEncoder {
+        
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+        
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+    
+    private class BlockingEncoder implements PasswordEncoder {
+        
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+        
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package bumaview.common.security;
+
+import bumaview.application.auth.LoginThrottle;
+import bumaview.domain.auth.exception.TooManyLoginAttemptsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ClientIpResolver 테스트")
+class ClientIpResolverTest {
+    
+    private static final String PROXY = "10.0.0.5";
+    
+    private ClientIpResolver resolver;
+    
+    @BeforeEach
+    void setUp() {
+        resolver = new ClientIpResolver();
+        ReflectionTestUtils.setField(resolver, "trustedProxies", List.of("127.0.0.0/8", "10.0.0.0/8"));
+        resolver.init();
+    }
+    
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For의 클라이언트 주소를 사용해야 한다")
+    void resolve_TrustedProxy_UsesForwardedFor() {
+        // given
+        MockHttpServletRequest request = request(PROXY, "198.51.100.7, 10.0.0.9");
+        
+        // when
+        String clientIp = resolver.resolve(request);
+        
+        // then
+        assertThat(clientIp).isEqualTo("198.51.100.7");
+    }
+    
+    @Test
+    @DisplayName("신뢰하지 않는 곳에서 온 요청의 X-Forwarded-For는 무시해야 한다")
+    void resolve_UntrustedRemote_IgnoresForwardedFor() {
+        // given
+        MockHttpServletRequest request = request("203.0.113.50", "198.51.100.7");
+        
+        // when
+        String clientIp = resolver.resolve(request);
+        
+        // then
+        assertThat(clientIp).isEqualTo("203.0.113.50");
+    }
+    
+    @Test
+    @DisplayName("클라이언트가 위조한 앞쪽 홉은 무시하고 프록시가 기록한 주소를 사용해야 한다")
+    void resolve_SpoofedLeftmostHop_UsesNearestUntrustedHop() {
+        // given: 클라이언트가 "1.2.3.4"를 넣어 보냈고 프록시가 실제 주소를 덧붙임
+        MockHttpServletRequest request = request(PROXY, "1.2.3.4, 198.51.100.7");
+        
+        // when
+        String clientIp = resolver.resolve(request);
+        
+        // then
+        assertThat(clientIp).isEqualTo("198.51.100.7");
+    }
+    
+    @Test
+    @DisplayName("같은 프록시 뒤의 두 클라이언트는 로그인 제한이 따로 적용되어야 한다")
+    void resolve_ClientsBehindSameProxy_ThrottledIndependently() {
+        // given
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "accountThreshold", 5);
+        ReflectionTestUtils.setField(throttle, "ipThreshold", 20);
+        ReflectionTestUtils.setField(throttle, "decaySeconds", 300L);
+        ReflectionTestUtils.setField(throttle, "baseLockoutSeconds", 30L);
+        ReflectionTestUtils.setField(throttle, "maxLockoutSeconds", 3600L);
+        String attacker = resolver.resolve(request(PROXY, "203.0.113.7"));
+        String user = resolver.resolve(request(PROXY, "198.51.100.1"));
+        
+        // when
+        for (int i = 0; i < 20; i++) {
+            throttle.recordFailure("user" + i, attacker);
+        }
+        
+        // then
+        assertThat(attacker).isNotEqualTo(user);
+        assertThatThrownBy(() -> throttle.checkAllowed("fresh-user", attacker))
+            .isInstanceOf(TooManyLoginAttemptsException.class);
+        assertThatCode(() -> throttle.checkAllowed("fresh-user", user)).doesNotThrowAnyException();
+    }
+    
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(ClientIpResolver.FORWARDED_FOR_HEADER, forwardedFor);
+        return request;
+    }
+}
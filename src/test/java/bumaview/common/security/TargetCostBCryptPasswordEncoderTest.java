@@ -0,0 +1,41 @@
+package bumaview.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TargetCostBCryptPasswordEncoder 테스트")
+class TargetCostBCryptPasswordEncoderTest {
+    
+    @Test
+    @DisplayName("저장된 비용이 목표 비용과 다르면 재해시 대상이어야 한다")
+    void upgradeEncoding_WhenCostDiffers() {
+        TargetCostBCryptPasswordEncoder encoder = new TargetCostBCryptPasswordEncoder(5);
+        
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+    }
+    
+    @Test
+    @DisplayName("BCrypt 형식이 아닌 값은 재해시 대상이 아니어야 한다")
+    void upgradeEncoding_InvalidFormat() {
+        TargetCostBCryptPasswordEncoder encoder = new TargetCostBCryptPasswordEncoder(5);
+        
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+        assertThat(TargetCostBCryptPasswordEncoder.parseCost("$2a$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+    }
+    
+    @Test
+    @DisplayName("보정된 비용은 지정한 범위 안에 있어야 한다")
+    void calibrate_StaysWithinBounds() {
+        int strength = new BCryptCostCalibrator().calibrate(Duration.ofMillis(50), 4, 6);
+        
+        assertThat(strength).isBetween(4, 6);
+    }
+}
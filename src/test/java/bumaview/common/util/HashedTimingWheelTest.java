@@ -0,0 +1,97 @@
+package bumaview.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HashedTimingWheel 테스트")
+class HashedTimingWheelTest {
+    
+    private HashedTimingWheel timer;
+    
+    @BeforeEach
+    void setUp() {
+        // 휠 한 바퀴(8 x 10ms)보다 긴 지연도 남은 바퀴 수로 처리되는지 확인하기 위해 작은 휠 사용
+        timer = new HashedTimingWheel("test-timer", Duration.ofMillis(10), 8);
+        timer.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+    
+    @Test
+    @DisplayName("등록한 작업은 지연 시간 이후에 한 번 실행되어야 한다")
+    void newTimeout_RunsAfterDelay() throws Exception {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        
+        // when
+        HashedTimingWheel.Timeout timeout = timer.newTimeout(latch::countDown, Duration.ofMillis(200));
+        
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timer.getPendingTimeouts()).isZero();
+    }
+    
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않아야 한다")
+    void cancel_PreventsExecution() throws Exception {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+        HashedTimingWheel.Timeout cancelled = timer.newTimeout(runs::incrementAndGet, Duration.ofMillis(50));
+        timer.newTimeout(later::countDown, Duration.ofMillis(150));
+        
+        // when
+        boolean result = cancelled.cancel();
+        
+        // then
+        assertThat(result).isTrue();
+        assertThat(later.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("많은 작업을 등록해도 모두 한 번씩 실행되어야 한다")
+    void newTimeout_ManyTimeouts_AllRun() throws Exception {
+        // given
+        int count = 10_000;
+        CountDownLatch latch = new CountDownLatch(count);
+        
+        // when
+        for (int i = 0; i < count; i++) {
+            timer.newTimeout(latch::countDown, Duration.ofMillis(i % 300));
+        }
+        
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.getPendingTimeouts()).isZero();
+    }
+    
+    @Test
+    @DisplayName("멈춘 타이머에는 작업을 등록할 수 없어야 한다")
+    void newTimeout_AfterStop_ThrowsException() {
+        // given
+        timer.stop();
+        
+        // when & then
+        assertThatThrownBy(() -> timer.newTimeout(() -> { }, Duration.ofMillis(10)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package bumaview.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongHashSet 테스트")
+class LongHashSetTest {
+    
+    @Test
+    @DisplayName("추가한 값만 포함하고 중복 추가는 false를 반환해야 한다")
+    void add_AndContains() {
+        // given
+        LongHashSet set = new LongHashSet();
+        
+        // when
+        boolean addedZero = set.add(0L);
+        boolean addedNegative = set.add(-1L);
+        boolean addedAgain = set.add(-1L);
+        
+        // then
+        assertThat(addedZero).isTrue();
+        assertThat(addedNegative).isTrue();
+        assertThat(addedAgain).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.contains(1L)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("초기 크기를 넘어도 늘어나며 모든 값을 유지해야 한다")
+    void add_Resizes() {
+        // given
+        LongHashSet set = new LongHashSet(4);
+        
+        // when
+        for (long i = 1; i <= 100_000; i++) {
+            set.add(i * 0x9E3779B97F4A7C15L);
+        }
+        
+        // then
+        assertThat(set.size()).isEqualTo(100_000);
+        for (long i = 1; i <= 100_000; i++) {
+            assertThat(set.contains(i * 0x9E3779B97F4A7C15L)).isTrue();
+        }
+        assertThat(set.contains(100_001 * 0x9E3779B97F4A7C15L)).isFalse();
+    }
+}
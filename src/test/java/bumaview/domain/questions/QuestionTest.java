@@ -0,0 +1,35 @@
+package bumaview.domain.questions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Question 테스트")
+class QuestionTest {
+    
+    @Test
+    @DisplayName("공백과 대소문자만 다른 질문은 같은 지문을 가져야 한다")
+    void fingerprint_IgnoresWhitespaceAndCase() {
+        // given
+        Question question = new Question("Spring의  트랜잭션을\n설명해주세요. ", "네이버", "백엔드", "2024");
+        
+        // when
+        String fingerprint = Question.fingerprint("spring의 트랜잭션을 설명해주세요.", "네이버", "백엔드", "2024");
+        
+        // then
+        assertThat(question.getFingerprint()).isEqualTo(fingerprint).hasSize(64);
+    }
+    
+    @Test
+    @DisplayName("회사/카테고리/년도가 다르면 다른 지문을 가져야 한다")
+    void fingerprint_DiffersByFacets() {
+        // when
+        String naver = Question.fingerprint("트랜잭션을 설명해주세요.", "네이버", "백엔드", "2024");
+        String kakao = Question.fingerprint("트랜잭션을 설명해주세요.", "카카오", "백엔드", "2024");
+        String lastYear = Question.fingerprint("트랜잭션을 설명해주세요.", "네이버", "백엔드", "2023");
+        
+        // then
+        assertThat(naver).isNotEqualTo(kakao).isNotEqualTo(lastYear);
+    }
+}
@@ -0,0 +1,115 @@
+package bumaview.infrastructure.questions;
+
+import bumaview.domain.questions.Question;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QuestionCopyRepository 테스트 (임베디드 PostgreSQL)")
+class QuestionCopyRepositoryTest {
+    
+    private static EmbeddedPostgres postgres;
+    
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private QuestionCopyRepository questionCopyRepository;
+    
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+    
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        questionCopyRepository = new QuestionCopyRepository(jdbcTemplate);
+        
+        // V4 마이그레이션 이후와 같은 스키마
+        jdbcTemplate.execute("DROP TABLE IF EXISTS questions");
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS questions_seq");
+        jdbcTemplate.execute("CREATE SEQUENCE questions_seq INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE TABLE questions (" +
+                "id BIGINT PRIMARY KEY DEFAULT nextval('questions_seq'), content TEXT NOT NULL, " +
+                "company VARCHAR(255) NOT NULL, category VARCHAR(255) NOT NULL, question_at VARCHAR(4) NOT NULL, " +
+                "fingerprint VARCHAR(64))");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_questions_fingerprint ON questions (fingerprint)");
+    }
+    
+    @Test
+    @DisplayName("COPY로 적재한 행이 고유한 ID로 한 번에 병합되어야 한다")
+    void copyInsert_MergesAllRows() {
+        // given
+        // 애플리케이션이 이미 예약한 구간과 겹치지 않아야 함
+        Long reservedLo = jdbcTemplate.queryForObject("SELECT nextval('questions_seq')", Long.class);
+        
+        // when
+        Integer inserted = transactionTemplate.execute(status -> questionCopyRepository.copyInsert(writer -> {
+            for (int i = 0; i < 120; i++) {
+                writer.write(new Question("질문 " + i, "네이버", "백엔드", "2024"));
+            }
+            writer.write(new Question("쉼표, \"따옴표\"\n줄바꿈", "카카오", "프론트엔드", "2023"));
+        }));
+        
+        // then
+        assertThat(inserted).isEqualTo(121);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM questions", Long.class)).isEqualTo(121);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM questions WHERE id BETWEEN ? AND ?", Long.class, reservedLo, reservedLo + 49))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT content FROM questions WHERE company = '카카오'", String.class))
+            .isEqualTo("쉼표, \"따옴표\"\n줄바꿈");
+    }
+    
+    @Test
+    @DisplayName("이미 등록된 질문과 지문이 같은 행은 건너뛰어야 한다")
+    void copyInsert_SkipsExistingFingerprints() {
+        // given
+        transactionTemplate.execute(status -> questionCopyRepository.copyInsert(writer ->
+            writer.write(new Question("기존 질문", "네이버", "백엔드", "2024"))));
+        
+        // when
+        Integer inserted = transactionTemplate.execute(status -> questionCopyRepository.copyInsert(writer -> {
+            writer.write(new Question("기존   질문", "네이버", "백엔드", "2024"));
+            writer.write(new Question("새 질문", "네이버", "백엔드", "2024"));
+        }));
+        
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions", Long.class)).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 아무 행도 저장되지 않아야 한다")
+    void copyInsert_Rollback_InsertsNothing() {
+        // when
+        transactionTemplate.execute(status -> {
+            questionCopyRepository.copyInsert(writer -> writer.write(new Question("질문", "네이버", "백엔드", "2024")));
+            status.setRollbackOnly();
+            return null;
+        });
+        
+        // then
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM questions", Long.class);
+        assertThat(ids).isEmpty();
+    }
+}
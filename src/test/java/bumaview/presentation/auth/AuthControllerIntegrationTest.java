@@ -1,7 +1,9 @@
 package bumaview.presentation.auth;
 
 import bumaview.application.auth.JwtTokenService;
+import bumaview.application.auth.UserProvisioningService;
 import bumaview.application.auth.UserService;
+import bumaview.common.security.ClientIpResolver;
 import bumaview.config.SecurityConfig;
 import bumaview.domain.auth.Role;
 import bumaview.domain.auth.exception.DuplicateUserException;
@@ -37,9 +39,15 @@ class AuthControllerIntegrationTest {
 
     @MockBean
     private UserService userService;
+    
+    @MockBean
+    private UserProvisioningService userProvisioningService;
 
     @MockBean
     private JwtTokenService jwtTokenService;
+    
+    @MockBean
+    private ClientIpResolver clientIpResolver;
 
     @Test
     @DisplayName("정상적인 회원가입 요청 시 201 Created와 사용자 정보를 반환한다")
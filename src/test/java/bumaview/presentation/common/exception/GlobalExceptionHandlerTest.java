@@ -1,9 +1,11 @@
 package bumaview.presentation.common.exception;
 
+import bumaview.common.exception.ServerBusyException;
 import bumaview.domain.auth.exception.DuplicateUserException;
 import bumaview.presentation.common.dto.ErrorResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BeanPropertyBindingResult;
@@ -92,4 +94,22 @@ class GlobalExceptionHandlerTest {
         assertThat(errorResponse.getMessage()).isEqualTo("서버 내부 오류가 발생했습니다");
         assertThat(errorResponse.getPath()).isEqualTo("/auth/signup");
     }
+    
+    @Test
+    void ServerBusyException_처리시_503_상태코드와_Retry_After_헤더를_반환한다() {
+        // given
+        ServerBusyException exception = new ServerBusyException("요청이 많아 잠시 후 다시 시도해주세요.", 2);
+        
+        // when
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleServerBusyException(exception, webRequest);
+        
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        
+        ErrorResponse errorResponse = response.getBody();
+        assertThat(errorResponse).isNotNull();
+        assertThat(errorResponse.getStatus()).isEqualTo(503);
+        assertThat(errorResponse.getMessage()).isEqualTo("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
 }
\ No newline at end of file